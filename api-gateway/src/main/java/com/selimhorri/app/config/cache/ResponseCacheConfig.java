@@ -0,0 +1,65 @@
+package com.selimhorri.app.config.cache;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.selimhorri.app.filter.CachedResponse;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCacheConfig {
+	
+	@Bean
+	public Cache<String, CachedResponse> gatewayResponseCacheBean(final ResponseCacheProperties responseCacheProperties) {
+		return Caffeine.newBuilder()
+				.maximumWeight(responseCacheProperties.getMaxSize().toBytes())
+				.weigher((String key, CachedResponse cachedResponse) -> key.length() + cachedResponse.weight())
+				.expireAfter(new Expiry<String, CachedResponse>() {
+					@Override
+					public long expireAfterCreate(final String key, final CachedResponse cachedResponse, final long currentTime) {
+						return TimeUnit.MILLISECONDS.toNanos(Math.max(0, cachedResponse.getStaleUntil() - System.currentTimeMillis()));
+					}
+					@Override
+					public long expireAfterUpdate(final String key, final CachedResponse cachedResponse, 
+							final long currentTime, final long currentDuration) {
+						return this.expireAfterCreate(key, cachedResponse, currentTime);
+					}
+					@Override
+					public long expireAfterRead(final String key, final CachedResponse cachedResponse, 
+							final long currentTime, final long currentDuration) {
+						return currentDuration;
+					}
+				})
+				.recordStats()
+				.build();
+	}
+	
+	@Bean
+	public MeterBinder gatewayResponseCacheMetricsBean(final Cache<String, CachedResponse> gatewayResponseCacheBean) {
+		return new CaffeineCacheMetrics(gatewayResponseCacheBean, "gatewayResponseCache", Tags.empty());
+	}
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,36 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.gateway.response-cache")
+@Data
+public class ResponseCacheProperties {
+	
+	private boolean enabled;
+	private List<String> paths = new ArrayList<>();
+	private Duration ttl = Duration.ofSeconds(30);
+	private Duration staleWhileRevalidate = Duration.ofSeconds(30);
+	private DataSize maxSize = DataSize.ofMegabytes(64);
+	private DataSize maxEntrySize = DataSize.ofKilobytes(512);
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
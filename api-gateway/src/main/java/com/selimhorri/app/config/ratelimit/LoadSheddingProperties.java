@@ -0,0 +1,33 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.gateway.load-shedding")
+@Data
+public class LoadSheddingProperties {
+	
+	private boolean enabled;
+	private int initialLimit = 50;
+	private int minLimit = 5;
+	private int maxLimit = 400;
+	private Duration latencyThreshold = Duration.ofSeconds(1);
+	private double backoffRatio = 0.9;
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
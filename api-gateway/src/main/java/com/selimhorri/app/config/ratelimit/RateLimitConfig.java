@@ -0,0 +1,43 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.time.Clock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.filter.ratelimit.InMemoryRateLimitStore;
+import com.selimhorri.app.filter.ratelimit.JwtSubjectVerifier;
+import com.selimhorri.app.filter.ratelimit.RateLimitStore;
+
+@Configuration
+@EnableConfigurationProperties({RateLimitProperties.class, LoadSheddingProperties.class})
+public class RateLimitConfig {
+	
+	@Bean
+	@ConditionalOnMissingBean
+	public RateLimitStore rateLimitStoreBean(final RateLimitProperties rateLimitProperties) {
+		return new InMemoryRateLimitStore(rateLimitProperties.getIdleBucketExpiry(), rateLimitProperties.getMaxBuckets());
+	}
+	
+	@Bean
+	public JwtSubjectVerifier jwtSubjectVerifierBean(final RateLimitProperties rateLimitProperties, final ObjectMapper objectMapper) {
+		return new JwtSubjectVerifier(objectMapper, rateLimitProperties.getSubjectSigningKey(), Clock.systemUTC());
+	}
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,60 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@ConfigurationProperties(prefix = "app.gateway.rate-limit")
+@Data
+public class RateLimitProperties {
+	
+	private boolean enabled;
+	private int trustedProxyHops;
+	private String subjectSigningKey;
+	private Duration idleBucketExpiry = Duration.ofMinutes(10);
+	private long maxBuckets = 100_000;
+	private Limits defaultLimits = new Limits(new Bucket(40, 20, Duration.ofSeconds(1)), 
+			new Bucket(200, 100, Duration.ofSeconds(1)));
+	private Map<String, Limits> routes = new HashMap<>();
+	
+	public Limits limitsFor(final String routeId) {
+		return this.routes.getOrDefault(routeId, this.defaultLimits);
+	}
+	
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Limits {
+		private Bucket subject;
+		private Bucket ip;
+	}
+	
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Bucket {
+		private long capacity;
+		private long refillTokens;
+		private Duration refillPeriod;
+	}
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,23 @@
+package com.selimhorri.app.config.route;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(InternalPathProperties.class)
+public class InternalPathConfig {
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
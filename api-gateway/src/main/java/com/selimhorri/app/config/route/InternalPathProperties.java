@@ -0,0 +1,29 @@
+package com.selimhorri.app.config.route;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.gateway.internal")
+@Data
+public class InternalPathProperties {
+	
+	private List<String> paths = new ArrayList<>();
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,45 @@
+package com.selimhorri.app.filter;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class CachedResponse {
+	
+	HttpStatus status;
+	HttpHeaders headers;
+	byte[] body;
+	long storedAt;
+	long freshUntil;
+	long staleUntil;
+	
+	public boolean isFresh(final long now) {
+		return now < this.freshUntil;
+	}
+	
+	public boolean isServableStale(final long now) {
+		return now < this.staleUntil;
+	}
+	
+	public int weight() {
+		return this.body.length + this.headers.toString().length();
+	}
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
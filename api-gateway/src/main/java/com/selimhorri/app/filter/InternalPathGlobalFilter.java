@@ -0,0 +1,63 @@
+package com.selimhorri.app.filter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.selimhorri.app.config.route.InternalPathProperties;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Answers 404 for service-to-service endpoints such as the cache invalidation callbacks, so the 
+ * {@code /xxx-service/**} routes never expose them to external clients.
+ */
+@Component
+public class InternalPathGlobalFilter implements GlobalFilter, Ordered {
+	
+	private final List<PathPattern> pathPatterns;
+	
+	public InternalPathGlobalFilter(final InternalPathProperties internalPathProperties) {
+		this.pathPatterns = internalPathProperties.getPaths().stream()
+				.map(PathPatternParser.defaultInstance::parse)
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+	
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+		final PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+		if (this.pathPatterns.stream().noneMatch(pathPattern -> pathPattern.matches(path))) {
+			return chain.filter(exchange);
+		}
+		exchange.getResponse().setStatusCode(HttpStatus.NOT_FOUND);
+		return exchange.getResponse().setComplete();
+	}
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,127 @@
+package com.selimhorri.app.filter;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Optional;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.selimhorri.app.config.ratelimit.RateLimitProperties;
+import com.selimhorri.app.config.ratelimit.RateLimitProperties.Limits;
+import com.selimhorri.app.filter.ratelimit.JwtSubjectVerifier;
+import com.selimhorri.app.filter.ratelimit.RateLimitResult;
+import com.selimhorri.app.filter.ratelimit.RateLimitStore;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Token bucket limits per route: every caller draws from its client IP bucket, and callers presenting 
+ * a bearer token whose signature verifies also draw from their JWT subject bucket. Unverified subjects are 
+ * never used as keys, so nobody can drain another user's bucket. Rejections are answered with 429 and Retry-After.
+ */
+@Component
+@Slf4j
+public class RateLimitGlobalFilter implements GlobalFilter, Ordered {
+	
+	public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+	private static final String BEARER_PREFIX = "Bearer ";
+	
+	private final RateLimitProperties rateLimitProperties;
+	private final RateLimitStore rateLimitStore;
+	private final JwtSubjectVerifier jwtSubjectVerifier;
+	private final MeterRegistry meterRegistry;
+	private final RemoteAddressResolver remoteAddressResolver;
+	
+	public RateLimitGlobalFilter(final RateLimitProperties rateLimitProperties, 
+			final RateLimitStore rateLimitStore, 
+			final JwtSubjectVerifier jwtSubjectVerifier, 
+			final MeterRegistry meterRegistry) {
+		this.rateLimitProperties = rateLimitProperties;
+		this.rateLimitStore = rateLimitStore;
+		this.jwtSubjectVerifier = jwtSubjectVerifier;
+		this.meterRegistry = meterRegistry;
+		this.remoteAddressResolver = rateLimitProperties.getTrustedProxyHops() > 0 ? 
+				XForwardedRemoteAddressResolver.maxTrustedIndex(rateLimitProperties.getTrustedProxyHops()) 
+				: new RemoteAddressResolver() {};
+	}
+	
+	@Override
+	public int getOrder() {
+		return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 2;
+	}
+	
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+		final Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+		if (!this.rateLimitProperties.isEnabled() || route == null) {
+			return chain.filter(exchange);
+		}
+		final String routeId = route.getId();
+		final Limits limits = this.rateLimitProperties.limitsFor(routeId);
+		final String ip = Optional.ofNullable(this.remoteAddressResolver.resolve(exchange))
+				.map(InetSocketAddress::getAddress)
+				.map(InetAddress::getHostAddress)
+				.orElse("unknown");
+		final Mono<RateLimitResult> ipResult = limits.getIp() == null ? 
+				Mono.just(RateLimitResult.allowed(Long.MAX_VALUE)) 
+				: this.rateLimitStore.tryConsume(routeId + "|ip|" + ip, limits.getIp());
+		return ipResult
+				.flatMap(result -> {
+					final Optional<String> subject = this.subject(exchange.getRequest().getHeaders());
+					if (!result.isAllowed() || subject.isEmpty() || limits.getSubject() == null) {
+						return Mono.just(result);
+					}
+					return this.rateLimitStore.tryConsume(routeId + "|sub|" + subject.get(), limits.getSubject());
+				})
+				.flatMap(result -> {
+					if (result.isAllowed()) {
+						if (result.getRemaining() != Long.MAX_VALUE) {
+							exchange.getResponse().getHeaders().set(REMAINING_HEADER, String.valueOf(result.getRemaining()));
+						}
+						return chain.filter(exchange);
+					}
+					this.meterRegistry.counter("gateway.requests.shed", "route", routeId, "reason", "rate_limited")
+							.increment();
+					exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+					exchange.getResponse().getHeaders().set(REMAINING_HEADER, "0");
+					exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, 
+							String.valueOf(Math.max(1, (long) Math.ceil(result.getRetryAfter().toMillis() / 1000.0))));
+					return exchange.getResponse().setComplete();
+				});
+	}
+	
+	private Optional<String> subject(final HttpHeaders headers) {
+		final String authorization = headers.getFirst(HttpHeaders.AUTHORIZATION);
+		if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+			return Optional.empty();
+		}
+		return this.jwtSubjectVerifier.verifiedSubject(authorization.substring(BEARER_PREFIX.length()));
+	}
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,304 @@
+package com.selimhorri.app.filter;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.reactivestreams.Publisher;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.config.cache.ResponseCacheProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves configured GET routes from memory, keyed by path, query, Accept and Accept-Encoding. 
+ * Upstream Cache-Control (no-store, private, no-cache, s-maxage, max-age, stale-while-revalidate) 
+ * overrides the configured freshness; stale entries are served while a loopback request refreshes them. 
+ * Hits whose stored ETag matches If-None-Match are answered with 304.
+ */
+@Component
+@Slf4j
+public class ResponseCacheGlobalFilter implements GlobalFilter, Ordered {
+	
+	public static final String CACHE_STATUS_HEADER = "X-Cache";
+	public static final String REVALIDATE_HEADER = "X-Cache-Revalidate";
+	private static final Set<String> UNSTORED_HEADERS = Set.of(HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING, 
+			HttpHeaders.CONNECTION, HttpHeaders.SET_COOKIE, HttpHeaders.DATE, HttpHeaders.AGE, "Keep-Alive", CACHE_STATUS_HEADER)
+			.stream()
+				.map(header -> header.toLowerCase(Locale.ROOT))
+				.collect(Collectors.toUnmodifiableSet());
+	
+	private final ResponseCacheProperties responseCacheProperties;
+	private final Cache<String, CachedResponse> responseCache;
+	private final WebClient revalidationClient;
+	private final MeterRegistry meterRegistry;
+	private final List<PathPattern> pathPatterns;
+	private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+	private volatile int serverPort;
+	
+	public ResponseCacheGlobalFilter(final ResponseCacheProperties responseCacheProperties, 
+			final Cache<String, CachedResponse> gatewayResponseCacheBean, 
+			final WebClient.Builder webClientBuilder, 
+			final MeterRegistry meterRegistry) {
+		this.responseCacheProperties = responseCacheProperties;
+		this.responseCache = gatewayResponseCacheBean;
+		this.revalidationClient = webClientBuilder.build();
+		this.meterRegistry = meterRegistry;
+		this.pathPatterns = responseCacheProperties.getPaths().stream()
+				.map(PathPatternParser.defaultInstance::parse)
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@EventListener
+	public void onWebServerInitialized(final WebServerInitializedEvent event) {
+		this.serverPort = event.getWebServer().getPort();
+	}
+	
+	@Override
+	public int getOrder() {
+		return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+	}
+	
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+		final ServerHttpRequest request = exchange.getRequest();
+		if (!this.isCacheable(request)) {
+			return chain.filter(exchange);
+		}
+		final String key = cacheKey(request);
+		if (!this.isRevalidation(request) && !hasDirective(request.getHeaders(), "no-cache")) {
+			final long now = System.currentTimeMillis();
+			final CachedResponse cached = this.responseCache.getIfPresent(key);
+			if (cached != null && cached.isFresh(now)) {
+				return this.write(exchange, cached, "HIT", now);
+			}
+			if (cached != null && cached.isServableStale(now)) {
+				this.revalidate(key, request);
+				return this.write(exchange, cached, "STALE", now);
+			}
+		}
+		return chain.filter(exchange.mutate()
+				.response(this.recordingResponse(exchange.getResponse(), key))
+				.build());
+	}
+	
+	private boolean isCacheable(final ServerHttpRequest request) {
+		if (!this.responseCacheProperties.isEnabled() || request.getMethod() != HttpMethod.GET 
+				|| hasDirective(request.getHeaders(), "no-store")) {
+			return false;
+		}
+		final PathContainer path = request.getPath().pathWithinApplication();
+		return this.pathPatterns.stream()
+				.anyMatch(pattern -> pattern.matches(path));
+	}
+	
+	private boolean isRevalidation(final ServerHttpRequest request) {
+		return request.getHeaders().containsKey(REVALIDATE_HEADER) 
+				&& Optional.ofNullable(request.getRemoteAddress())
+					.map(InetSocketAddress::getAddress)
+					.map(InetAddress::isLoopbackAddress)
+					.orElse(false);
+	}
+	
+	private Mono<Void> write(final ServerWebExchange exchange, final CachedResponse cached, final String cacheStatus, 
+			final long now) {
+		this.count(cacheStatus);
+		final ServerHttpResponse response = exchange.getResponse();
+		response.setStatusCode(cached.getStatus());
+		cached.getHeaders().forEach((name, values) -> {
+			if (HttpHeaders.VARY.equalsIgnoreCase(name)) {
+				values.stream()
+					.filter(value -> !response.getHeaders().getOrEmpty(HttpHeaders.VARY).contains(value))
+					.forEach(value -> response.getHeaders().add(HttpHeaders.VARY, value));
+			}
+			else if (!response.getHeaders().containsKey(name)) {
+				response.getHeaders().put(name, values);
+			}
+		});
+		response.getHeaders().set(HttpHeaders.AGE, String.valueOf(Duration.ofMillis(now - cached.getStoredAt()).toSeconds()));
+		response.getHeaders().set(CACHE_STATUS_HEADER, cacheStatus);
+		final String eTag = cached.getHeaders().getETag();
+		if (eTag != null && exchange.checkNotModified(eTag)) {
+			return response.setComplete();
+		}
+		response.getHeaders().setContentLength(cached.getBody().length);
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.getBody())));
+	}
+	
+	private ServerHttpResponseDecorator recordingResponse(final ServerHttpResponse original, final String key) {
+		return new ServerHttpResponseDecorator(original) {
+			@Override
+			public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+				final HttpHeaders headers = this.getHeaders();
+				if (this.getStatusCode() != HttpStatus.OK || headers.containsKey(HttpHeaders.SET_COOKIE) 
+						|| hasDirective(headers, "no-store") || hasDirective(headers, "private") 
+						|| hasDirective(headers, "no-cache") 
+						|| headers.getContentLength() > responseCacheProperties.getMaxEntrySize().toBytes()) {
+					count("BYPASS");
+					headers.set(CACHE_STATUS_HEADER, "BYPASS");
+					return super.writeWith(body);
+				}
+				count("MISS");
+				headers.set(CACHE_STATUS_HEADER, "MISS");
+				return Flux.from(body)
+						.collectList()
+						.flatMap(buffers -> {
+							final int size = buffers.stream()
+									.mapToInt(DataBuffer::readableByteCount)
+									.sum();
+							if (size > responseCacheProperties.getMaxEntrySize().toBytes()) {
+								return super.writeWith(Flux.fromIterable(buffers));
+							}
+							final byte[] bytes = new byte[size];
+							int offset = 0;
+							for (final DataBuffer buffer : buffers) {
+								final int length = buffer.readableByteCount();
+								buffer.read(bytes, offset, length);
+								offset += length;
+								DataBufferUtils.release(buffer);
+							}
+							store(key, this.getStatusCode(), headers, bytes);
+							return super.writeWith(Mono.just(this.bufferFactory().wrap(bytes)));
+						});
+			}
+		};
+	}
+	
+	private void store(final String key, final HttpStatus status, final HttpHeaders headers, final byte[] body) {
+		final long now = System.currentTimeMillis();
+		final Duration ttl = directiveSeconds(headers, "s-maxage")
+				.or(() -> directiveSeconds(headers, "max-age"))
+				.orElse(this.responseCacheProperties.getTtl());
+		final Duration staleWhileRevalidate = directiveSeconds(headers, "stale-while-revalidate")
+				.orElse(this.responseCacheProperties.getStaleWhileRevalidate());
+		if (ttl.isZero() && staleWhileRevalidate.isZero()) {
+			return;
+		}
+		final HttpHeaders stored = new HttpHeaders();
+		headers.forEach((name, values) -> {
+			final String lowerCaseName = name.toLowerCase(Locale.ROOT);
+			if (!UNSTORED_HEADERS.contains(lowerCaseName) && !lowerCaseName.startsWith("access-control-")) {
+				stored.put(name, new ArrayList<>(values));
+			}
+		});
+		this.responseCache.put(key, CachedResponse.builder()
+				.status(status)
+				.headers(HttpHeaders.readOnlyHttpHeaders(stored))
+				.body(body)
+				.storedAt(now)
+				.freshUntil(now + ttl.toMillis())
+				.staleUntil(now + ttl.toMillis() + staleWhileRevalidate.toMillis())
+				.build());
+	}
+	
+	private void revalidate(final String key, final ServerHttpRequest request) {
+		if (this.serverPort <= 0 || !this.revalidating.add(key)) {
+			return;
+		}
+		final URI uri = URI.create("http://localhost:" + this.serverPort + request.getURI().getRawPath() 
+				+ (request.getURI().getRawQuery() == null ? "" : "?" + request.getURI().getRawQuery()));
+		this.revalidationClient.get()
+				.uri(uri)
+				.headers(headers -> {
+					headers.addAll(HttpHeaders.ACCEPT, request.getHeaders().getOrEmpty(HttpHeaders.ACCEPT));
+					headers.addAll(HttpHeaders.ACCEPT_ENCODING, request.getHeaders().getOrEmpty(HttpHeaders.ACCEPT_ENCODING));
+					headers.set(REVALIDATE_HEADER, "1");
+				})
+				.retrieve()
+				.toBodilessEntity()
+				.doFinally(signal -> this.revalidating.remove(key))
+				.subscribe(entity -> log.debug("*** Void, filter; revalidated cached response {} *", key), 
+						e -> log.warn("*** Void, filter; revalidation of {} failed: {} *", key, e.getMessage()));
+	}
+	
+	private void count(final String outcome) {
+		this.meterRegistry.counter("gateway.response.cache.requests", "outcome", outcome.toLowerCase(Locale.ROOT))
+				.increment();
+	}
+	
+	private static String cacheKey(final ServerHttpRequest request) {
+		final HttpHeaders headers = request.getHeaders();
+		final String accept = headers.getAccept().isEmpty() ? 
+				MediaType.ALL_VALUE : MediaType.toString(headers.getAccept());
+		final boolean gzip = headers.getOrEmpty(HttpHeaders.ACCEPT_ENCODING).stream()
+				.anyMatch(value -> value.toLowerCase(Locale.ROOT).contains("gzip"));
+		return request.getURI().getRawPath() 
+				+ (request.getURI().getRawQuery() == null ? "" : "?" + request.getURI().getRawQuery()) 
+				+ "|" + accept + "|" + (gzip ? "gzip" : "identity");
+	}
+	
+	private static boolean hasDirective(final HttpHeaders headers, final String directive) {
+		return directives(headers).stream()
+				.anyMatch(value -> value.equals(directive) || value.startsWith(directive + "="));
+	}
+	
+	private static Optional<Duration> directiveSeconds(final HttpHeaders headers, final String directive) {
+		return directives(headers).stream()
+				.filter(value -> value.startsWith(directive + "="))
+				.findFirst()
+				.map(value -> value.substring(directive.length() + 1).replace("\"", ""))
+				.flatMap(seconds -> {
+					try {
+						return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(seconds))));
+					}
+					catch (NumberFormatException e) {
+						return Optional.empty();
+					}
+				});
+	}
+	
+	private static List<String> directives(final HttpHeaders headers) {
+		return headers.getOrEmpty(HttpHeaders.CACHE_CONTROL).stream()
+				.flatMap(value -> Arrays.stream(value.split(",")))
+				.map(value -> value.trim().toLowerCase(Locale.ROOT))
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
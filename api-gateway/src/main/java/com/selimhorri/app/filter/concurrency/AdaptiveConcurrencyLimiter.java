@@ -0,0 +1,75 @@
+package com.selimhorri.app.filter.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.selimhorri.app.config.ratelimit.LoadSheddingProperties;
+
+/**
+ * AIMD concurrency limit: grows by one per limit's worth of fast responses while the limit is in use, 
+ * and shrinks by the backoff ratio (at most once per latency threshold) when responses are slow or fail.
+ */
+public class AdaptiveConcurrencyLimiter {
+	
+	private final LoadSheddingProperties loadSheddingProperties;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private volatile double limit;
+	private long lastDecreaseAt;
+	
+	public AdaptiveConcurrencyLimiter(final LoadSheddingProperties loadSheddingProperties) {
+		this.loadSheddingProperties = loadSheddingProperties;
+		this.limit = loadSheddingProperties.getInitialLimit();
+		this.lastDecreaseAt = System.nanoTime() - loadSheddingProperties.getLatencyThreshold().toNanos() - 1;
+	}
+	
+	public boolean tryAcquire() {
+		while (true) {
+			final int current = this.inFlight.get();
+			if (current >= (int) this.limit) {
+				return false;
+			}
+			if (this.inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+	
+	public void release(final long latencyNanos, final boolean failed) {
+		final int current = this.inFlight.getAndDecrement();
+		synchronized (this) {
+			final long now = System.nanoTime();
+			final long threshold = this.loadSheddingProperties.getLatencyThreshold().toNanos();
+			if (failed || latencyNanos > threshold) {
+				if (now - this.lastDecreaseAt > threshold) {
+					this.limit = Math.max(this.loadSheddingProperties.getMinLimit(), 
+							this.limit * this.loadSheddingProperties.getBackoffRatio());
+					this.lastDecreaseAt = now;
+				}
+			}
+			else if (current * 2 >= this.limit) {
+				this.limit = Math.min(this.loadSheddingProperties.getMaxLimit(), this.limit + 1 / this.limit);
+			}
+		}
+	}
+	
+	public int getLimit() {
+		return (int) this.limit;
+	}
+	
+	public int getInFlight() {
+		return this.inFlight.get();
+	}
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
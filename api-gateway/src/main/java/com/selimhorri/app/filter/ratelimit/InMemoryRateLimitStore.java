@@ -0,0 +1,64 @@
+package com.selimhorri.app.filter.ratelimit;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.ratelimit.RateLimitProperties.Bucket;
+
+import reactor.core.publisher.Mono;
+
+public class InMemoryRateLimitStore implements RateLimitStore {
+	
+	private final Cache<String, TokenBucket> buckets;
+	
+	public InMemoryRateLimitStore(final Duration idleBucketExpiry, final long maxBuckets) {
+		this.buckets = Caffeine.newBuilder()
+				.expireAfterAccess(idleBucketExpiry)
+				.maximumSize(maxBuckets)
+				.build();
+	}
+	
+	@Override
+	public Mono<RateLimitResult> tryConsume(final String key, final Bucket bucket) {
+		return Mono.fromSupplier(() -> this.buckets.get(key, k -> new TokenBucket(bucket.getCapacity()))
+				.tryConsume(bucket, System.nanoTime()));
+	}
+	
+	static final class TokenBucket {
+		
+		private double tokens;
+		private long refilledAt;
+		
+		TokenBucket(final long capacity) {
+			this.tokens = capacity;
+			this.refilledAt = System.nanoTime();
+		}
+		
+		synchronized RateLimitResult tryConsume(final Bucket bucket, final long now) {
+			final double tokensPerNano = (double) bucket.getRefillTokens() / bucket.getRefillPeriod().toNanos();
+			this.tokens = Math.min(bucket.getCapacity(), this.tokens + (now - this.refilledAt) * tokensPerNano);
+			this.refilledAt = now;
+			if (this.tokens >= 1) {
+				this.tokens -= 1;
+				return RateLimitResult.allowed((long) this.tokens);
+			}
+			return RateLimitResult.rejected(Duration.ofNanos((long) Math.ceil((1 - this.tokens) / tokensPerNano)));
+		}
+		
+	}
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,35 @@
+package com.selimhorri.app.filter.ratelimit;
+
+import java.time.Duration;
+
+import lombok.Value;
+
+@Value
+public class RateLimitResult {
+	
+	boolean allowed;
+	long remaining;
+	Duration retryAfter;
+	
+	public static RateLimitResult allowed(final long remaining) {
+		return new RateLimitResult(true, remaining, Duration.ZERO);
+	}
+	
+	public static RateLimitResult rejected(final Duration retryAfter) {
+		return new RateLimitResult(false, 0, retryAfter);
+	}
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,25 @@
+package com.selimhorri.app.filter.ratelimit;
+
+import com.selimhorri.app.config.ratelimit.RateLimitProperties.Bucket;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Token bucket state keyed by caller. The default is per-instance and in memory; 
+ * declare another bean (e.g. backed by Redis) to share buckets across gateway instances.
+ */
+public interface RateLimitStore {
+	
+	Mono<RateLimitResult> tryConsume(final String key, final Bucket bucket);
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,57 @@
+package com.selimhorri.app.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.selimhorri.app.config.route.InternalPathProperties;
+
+import reactor.core.publisher.Mono;
+
+class InternalPathGlobalFilterTest {
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final InternalPathGlobalFilter filter = newFilter();
+
+    @Test
+    @DisplayName("cache invalidation callbacks are not routed to any service")
+    void internalPathsAreRejected() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.post("/shipping-service/api/cache-events"));
+        filter.filter(exchange, upstream()).block();
+
+        assertThat(upstreamCalls).hasValue(0);
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("public service paths keep flowing to the upstream route")
+    void publicPathsPassThrough() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/shipping-service/api/shippings"));
+        filter.filter(exchange, upstream()).block();
+
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    private GatewayFilterChain upstream() {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.empty();
+        };
+    }
+
+    private static InternalPathGlobalFilter newFilter() {
+        InternalPathProperties properties = new InternalPathProperties();
+        properties.setPaths(List.of("/*-service/api/cache-events/**"));
+        return new InternalPathGlobalFilter(properties);
+    }
+}
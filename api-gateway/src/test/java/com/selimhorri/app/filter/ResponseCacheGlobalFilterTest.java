@@ -0,0 +1,127 @@
+package com.selimhorri.app.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.config.cache.ResponseCacheConfig;
+import com.selimhorri.app.config.cache.ResponseCacheProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class ResponseCacheGlobalFilterTest {
+
+    private static final String BODY = "{\"productId\":1}";
+    private static final String ETAG = "\"0abc\"";
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final ResponseCacheGlobalFilter filter = newFilter();
+
+    @Test
+    @DisplayName("a cacheable GET is served from the cache on the second request")
+    void secondRequestIsServedFromCache() {
+        MockServerWebExchange first = get("/app/api/products/1");
+        filter.filter(first, upstream(null)).block();
+        MockServerWebExchange second = get("/app/api/products/1");
+        filter.filter(second, upstream(null)).block();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(first.getResponse().getHeaders().getFirst(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+        assertThat(second.getResponse().getHeaders().getFirst(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("a cached response whose ETag matches If-None-Match is answered with 304")
+    void matchingIfNoneMatchReturnsNotModified() {
+        filter.filter(get("/app/api/products/1"), upstream(null)).block();
+        MockServerWebExchange conditional = MockServerWebExchange.from(MockServerHttpRequest.get("/app/api/products/1")
+            .accept(MediaType.APPLICATION_JSON)
+            .ifNoneMatch(ETAG));
+        filter.filter(conditional, upstream(null)).block();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(conditional.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(conditional.getResponse().getHeaders().getETag()).isEqualTo(ETAG);
+    }
+
+    @Test
+    @DisplayName("responses marked no-store upstream are never cached")
+    void upstreamNoStoreIsHonoured() {
+        filter.filter(get("/app/api/products/1"), upstream("no-store")).block();
+        filter.filter(get("/app/api/products/1"), upstream("no-store")).block();
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("proxy-client's public catalog Cache-Control is cached while Spring Security's default is bypassed")
+    void proxyCatalogCacheControlIsCached() {
+        String catalog = "max-age=30, public, stale-while-revalidate=30";
+        filter.filter(get("/app/api/products/1"), upstream(catalog)).block();
+        MockServerWebExchange hit = get("/app/api/products/1");
+        filter.filter(hit, upstream(catalog)).block();
+
+        String securityDefault = "no-cache, no-store, max-age=0, must-revalidate";
+        filter.filter(get("/app/api/products/2"), upstream(securityDefault)).block();
+        filter.filter(get("/app/api/products/2"), upstream(securityDefault)).block();
+
+        assertThat(upstreamCalls).hasValue(3);
+        assertThat(hit.getResponse().getHeaders().getFirst(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+    }
+
+    @Test
+    @DisplayName("different Accept headers and unconfigured paths do not share entries")
+    void cacheKeyIncludesAcceptAndPath() {
+        filter.filter(get("/app/api/products/1"), upstream(null)).block();
+        MockServerWebExchange xml = MockServerWebExchange.from(MockServerHttpRequest.get("/app/api/products/1")
+            .accept(MediaType.APPLICATION_XML));
+        filter.filter(xml, upstream(null)).block();
+        filter.filter(get("/app/api/carts/1"), upstream(null)).block();
+        filter.filter(get("/app/api/carts/1"), upstream(null)).block();
+
+        assertThat(upstreamCalls).hasValue(4);
+    }
+
+    private ResponseCacheGlobalFilter newFilter() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setEnabled(true);
+        properties.setPaths(List.of("/app/api/products/**"));
+        Cache<String, CachedResponse> cache = new ResponseCacheConfig().gatewayResponseCacheBean(properties);
+        return new ResponseCacheGlobalFilter(properties, cache, WebClient.builder(), new SimpleMeterRegistry());
+    }
+
+    private GatewayFilterChain upstream(final String cacheControl) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            response.getHeaders().setETag(ETAG);
+            if (cacheControl != null) {
+                response.getHeaders().set(HttpHeaders.CACHE_CONTROL, cacheControl);
+            }
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+
+    private static MockServerWebExchange get(final String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path)
+            .accept(MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,53 @@
+package com.selimhorri.app.filter.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.config.ratelimit.RateLimitProperties.Bucket;
+
+class InMemoryRateLimitStoreTest {
+
+    private final InMemoryRateLimitStore store = new InMemoryRateLimitStore(Duration.ofMinutes(1), 1_000);
+
+    @Test
+    @DisplayName("a bucket admits its capacity as a burst and then rejects with a retry hint")
+    void burstUpToCapacityThenReject() {
+        Bucket bucket = new Bucket(3, 1, Duration.ofHours(1));
+
+        for (int i = 2; i >= 0; i--) {
+            RateLimitResult result = store.tryConsume("route|ip|10.0.0.1", bucket).block();
+            assertThat(result.isAllowed()).isTrue();
+            assertThat(result.getRemaining()).isEqualTo(i);
+        }
+        RateLimitResult rejected = store.tryConsume("route|ip|10.0.0.1", bucket).block();
+
+        assertThat(rejected.isAllowed()).isFalse();
+        assertThat(rejected.getRetryAfter()).isPositive();
+    }
+
+    @Test
+    @DisplayName("buckets are independent per key")
+    void keysDoNotShareTokens() {
+        Bucket bucket = new Bucket(1, 1, Duration.ofHours(1));
+
+        assertThat(store.tryConsume("route|sub|alice", bucket).block().isAllowed()).isTrue();
+        assertThat(store.tryConsume("route|sub|alice", bucket).block().isAllowed()).isFalse();
+        assertThat(store.tryConsume("route|sub|bob", bucket).block().isAllowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("tokens refill at the configured rate")
+    void tokensRefillOverTime() {
+        InMemoryRateLimitStore.TokenBucket tokenBucket = new InMemoryRateLimitStore.TokenBucket(1);
+        Bucket bucket = new Bucket(1, 1, Duration.ofSeconds(1));
+        long now = System.nanoTime();
+
+        assertThat(tokenBucket.tryConsume(bucket, now).isAllowed()).isTrue();
+        assertThat(tokenBucket.tryConsume(bucket, now).isAllowed()).isFalse();
+        assertThat(tokenBucket.tryConsume(bucket, now + Duration.ofSeconds(1).toNanos()).isAllowed()).isTrue();
+    }
+}
@@ -0,0 +1,82 @@
+package com.selimhorri.app.filter.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class JwtSubjectVerifierTest {
+
+    private static final String SIGNING_KEY = "c2lnbmluZy1rZXk=";
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final JwtSubjectVerifier verifier = new JwtSubjectVerifier(new ObjectMapper(), SIGNING_KEY,
+        Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("a token signed with the shared key yields its subject")
+    void signedTokenYieldsSubject() throws Exception {
+        String token = token(SIGNING_KEY, "alice", NOW.plusSeconds(60));
+
+        assertThat(verifier.verifiedSubject(token)).contains("alice");
+    }
+
+    @Test
+    @DisplayName("a token issued by proxy-client with its default key verifies")
+    void proxyClientTokenVerifies() {
+        String issued = "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJhbGljZSIsImV4cCI6MTc5MjM0MDEzN30"
+            + ".sI-qkNuGnsdFyGbWAqlvzxeYpJwClRkK-WcZJBWrNic";
+        JwtSubjectVerifier proxyClientKey = new JwtSubjectVerifier(new ObjectMapper(), "secret",
+            Clock.fixed(Instant.ofEpochSecond(1792340000L), ZoneOffset.UTC));
+
+        assertThat(proxyClientKey.verifiedSubject(issued)).contains("alice");
+    }
+
+    @Test
+    @DisplayName("a forged or unsigned token is not trusted")
+    void forgedTokenIsRejected() throws Exception {
+        String forged = token(Base64.getEncoder().encodeToString("attacker".getBytes(StandardCharsets.UTF_8)),
+            "alice", NOW.plusSeconds(60));
+        String unsigned = forged.substring(0, forged.lastIndexOf('.') + 1);
+
+        assertThat(verifier.verifiedSubject(forged)).isEmpty();
+        assertThat(verifier.verifiedSubject(unsigned)).isEmpty();
+        assertThat(verifier.verifiedSubject("not-a-token")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("an expired token is not trusted")
+    void expiredTokenIsRejected() throws Exception {
+        assertThat(verifier.verifiedSubject(token(SIGNING_KEY, "alice", NOW.minusSeconds(1)))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("without a signing key no subject is ever trusted")
+    void noKeyTrustsNothing() throws Exception {
+        JwtSubjectVerifier disabled = new JwtSubjectVerifier(new ObjectMapper(), "", Clock.systemUTC());
+
+        assertThat(disabled.verifiedSubject(token(SIGNING_KEY, "alice", NOW.plusSeconds(60)))).isEmpty();
+    }
+
+    private static String token(final String signingKey, final String subject, final Instant expiration) throws Exception {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(String.format("{\"sub\":\"%s\",\"exp\":%d}", subject,
+            expiration.getEpochSecond()).getBytes(StandardCharsets.UTF_8));
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(Base64.getDecoder().decode(signingKey), "HmacSHA256"));
+        String signature = encoder.encodeToString(mac.doFinal((header + "." + payload).getBytes(StandardCharsets.US_ASCII)));
+        return header + "." + payload + "." + signature;
+    }
+}
@@ -0,0 +1,66 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.helper.ProductMappingHelper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductMappingHelperBenchmark {
+	
+	private Product product;
+	private ProductDto productDto;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.product = Product.builder()
+				.productId(5)
+				.productTitle("Phone")
+				.imageUrl("/img/phone.png")
+				.sku("SKU-123")
+				.priceUnit(199.99)
+				.quantity(10)
+				.category(Category.builder()
+						.categoryId(3)
+						.categoryTitle("Electronics")
+						.imageUrl("/img/cat.png")
+						.build())
+				.build();
+		this.productDto = ProductMappingHelper.map(this.product);
+	}
+	
+	@Benchmark
+	public ProductDto mapToDto() {
+		return ProductMappingHelper.map(this.product);
+	}
+	
+	@Benchmark
+	public Product mapToEntity() {
+		return ProductMappingHelper.map(this.productDto);
+	}
+	
+	
+	
+}
+
+
+
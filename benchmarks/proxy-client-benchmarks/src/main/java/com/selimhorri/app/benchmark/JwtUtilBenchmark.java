@@ -0,0 +1,70 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+	
+	private UserDetails userDetails;
+	private JwtUtilImpl warmJwtUtil;
+	private String token;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.userDetails = User.withUsername("selimhorri")
+				.password("")
+				.authorities("ROLE_USER")
+				.build();
+		this.warmJwtUtil = new JwtUtilImpl();
+		this.token = this.warmJwtUtil.generateToken(this.userDetails);
+		this.warmJwtUtil.parseToken(this.token);
+	}
+	
+	@Benchmark
+	public String generateToken() {
+		return this.warmJwtUtil.generateToken(this.userDetails);
+	}
+	
+	@Benchmark
+	public Boolean validateTokenVerifiedCache() {
+		return this.warmJwtUtil.validateToken(this.token, this.userDetails);
+	}
+	
+	/**
+	 * Builds a fresh instance per call so the verified-token cache is always
+	 * cold; compare against {@link #newJwtUtil()} to discount the construction.
+	 */
+	@Benchmark
+	public Boolean validateTokenFullVerification() {
+		return new JwtUtilImpl().validateToken(this.token, this.userDetails);
+	}
+	
+	@Benchmark
+	public JwtUtilImpl newJwtUtil() {
+		return new JwtUtilImpl();
+	}
+	
+	
+	
+}
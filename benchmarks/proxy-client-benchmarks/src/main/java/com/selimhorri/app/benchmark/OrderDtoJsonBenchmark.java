@@ -0,0 +1,72 @@
+package com.selimhorri.app.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.selimhorri.app.business.order.model.CartDto;
+import com.selimhorri.app.business.order.model.OrderDto;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderDtoJsonBenchmark {
+	
+	private ObjectMapper objectMapper;
+	private OrderDto orderDto;
+	private String json;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws JsonProcessingException {
+		this.objectMapper = new JsonMapper();
+		this.orderDto = OrderDto.builder()
+				.orderId(41)
+				.orderDate(LocalDateTime.of(2024, 1, 15, 10, 30, 15, 123456000))
+				.orderDesc("Benchmark order")
+				.orderFee(120.0)
+				.cartDto(CartDto.builder()
+						.cartId(5)
+						.userId(2)
+						.build())
+				.build();
+		this.json = this.objectMapper.writeValueAsString(this.orderDto);
+	}
+	
+	@Benchmark
+	public String serialize() throws JsonProcessingException {
+		return this.objectMapper.writeValueAsString(this.orderDto);
+	}
+	
+	@Benchmark
+	public OrderDto deserialize() throws JsonProcessingException {
+		return this.objectMapper.readValue(this.json, OrderDto.class);
+	}
+	
+	@Benchmark
+	public OrderDto roundTrip() throws JsonProcessingException {
+		return this.objectMapper.readValue(this.objectMapper.writeValueAsString(this.orderDto), OrderDto.class);
+	}
+	
+	
+	
+}
+
+
+
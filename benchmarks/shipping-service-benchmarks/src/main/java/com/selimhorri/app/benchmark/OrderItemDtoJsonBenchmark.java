@@ -0,0 +1,79 @@
+package com.selimhorri.app.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.config.mapper.MapperConfig;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.dto.ProductDto;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderItemDtoJsonBenchmark {
+	
+	private ObjectMapper objectMapper;
+	private OrderItemDto orderItemDto;
+	private String json;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws JsonProcessingException {
+		this.objectMapper = new MapperConfig().objectMapperBean();
+		this.orderItemDto = OrderItemDto.builder()
+				.productId(10)
+				.orderId(7)
+				.orderedQuantity(3)
+				.productDto(ProductDto.builder()
+						.productId(10)
+						.productTitle("Phone")
+						.priceUnit(199.99)
+						.build())
+				.orderDto(OrderDto.builder()
+						.orderId(7)
+						.orderDate(LocalDateTime.of(2024, 1, 15, 10, 30, 15, 123456000))
+						.orderDesc("Benchmark order")
+						.orderFee(30.0)
+						.build())
+				.build();
+		this.json = this.objectMapper.writeValueAsString(this.orderItemDto);
+	}
+	
+	@Benchmark
+	public String serialize() throws JsonProcessingException {
+		return this.objectMapper.writeValueAsString(this.orderItemDto);
+	}
+	
+	@Benchmark
+	public OrderItemDto deserialize() throws JsonProcessingException {
+		return this.objectMapper.readValue(this.json, OrderItemDto.class);
+	}
+	
+	@Benchmark
+	public OrderItemDto roundTrip() throws JsonProcessingException {
+		return this.objectMapper.readValue(this.objectMapper.writeValueAsString(this.orderItemDto), OrderItemDto.class);
+	}
+	
+	
+	
+}
+
+
+
@@ -0,0 +1,72 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.selimhorri.app.domain.Credential;
+import com.selimhorri.app.domain.RoleBasedAuthority;
+import com.selimhorri.app.domain.User;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.helper.UserMappingHelper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMappingHelperBenchmark {
+	
+	private User user;
+	private UserDto userDto;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.user = User.builder()
+				.userId(1)
+				.firstName("Selim")
+				.lastName("Horri")
+				.imageUrl("/img/selim.png")
+				.email("selim@example.com")
+				.phone("+21622125144")
+				.credential(Credential.builder()
+						.credentialId(1)
+						.username("selimhorri")
+						.password("$2a$04$encoded")
+						.roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+						.isEnabled(true)
+						.isAccountNonExpired(true)
+						.isAccountNonLocked(true)
+						.isCredentialsNonExpired(true)
+						.build())
+				.build();
+		this.userDto = UserMappingHelper.map(this.user);
+	}
+	
+	@Benchmark
+	public UserDto mapToDto() {
+		return UserMappingHelper.map(this.user);
+	}
+	
+	@Benchmark
+	public User mapToEntity() {
+		return UserMappingHelper.map(this.userDto);
+	}
+	
+	
+	
+}
+
+
+
@@ -0,0 +1,41 @@
+package com.selimhorri.app.config.cache;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+@EnableConfigurationProperties(RemoteCacheProperties.class)
+public class CacheConfig {
+	
+	@Bean
+	public CacheManager cacheManagerBean(final RemoteCacheProperties remoteCacheProperties) {
+		final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+		cacheManager.setAllowNullValues(false);
+		cacheManager.setCaffeine(Caffeine.newBuilder().recordStats());
+		remoteCacheProperties.getRemote().forEach((cacheName, spec) -> cacheManager
+				.registerCustomCache(cacheName, Caffeine.newBuilder()
+						.maximumSize(spec.getMaxSize())
+						.expireAfterWrite(spec.getTtl())
+						.recordStats()
+						.build()));
+		return cacheManager;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
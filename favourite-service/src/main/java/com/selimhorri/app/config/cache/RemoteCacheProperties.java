@@ -0,0 +1,37 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.cache")
+@Data
+public class RemoteCacheProperties {
+	
+	private Map<String, Spec> remote = new HashMap<>();
+	
+	@Data
+	public static class Spec {
+		
+		private long maxSize = 1000;
+		private Duration ttl = Duration.ofMinutes(5);
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
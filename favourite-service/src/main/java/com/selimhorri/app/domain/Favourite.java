@@ -7,8 +7,11 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.IdClass;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 
+import org.springframework.data.domain.Persistable;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -31,10 +34,10 @@ import lombok.NoArgsConstructor;
 @IdClass(FavouriteId.class)
 @NoArgsConstructor
 @AllArgsConstructor
-@EqualsAndHashCode(callSuper = true)
+@EqualsAndHashCode(callSuper = true, exclude = {"newEntity"})
 @Data
 @Builder
-public final class Favourite extends AbstractMappedEntity implements Serializable {
+public final class Favourite extends AbstractMappedEntity implements Persistable<FavouriteId>, Serializable {
 	
 	private static final long serialVersionUID = 1L;
 	
@@ -54,6 +57,29 @@ public final class Favourite extends AbstractMappedEntity implements Serializabl
 	@DateTimeFormat(pattern = AppConstant.LOCAL_DATE_TIME_FORMAT)
 	private LocalDateTime likeDate;
 	
+	@Transient
+	private boolean newEntity;
+	
+	@Override
+	public FavouriteId getId() {
+		return new FavouriteId(this.userId, this.productId, this.likeDate);
+	}
+	
+	@Override
+	public boolean isNew() {
+		return this.newEntity;
+	}
+	
+	public Favourite markNew() {
+		this.newEntity = true;
+		return this;
+	}
+	
+	@PostPersist
+	void markPersisted() {
+		this.newEntity = false;
+	}
+	
 }
 
 
@@ -12,6 +12,8 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import com.selimhorri.app.exception.payload.ExceptionMsg;
+import com.selimhorri.app.exception.wrapper.BatchLimitExceededException;
+import com.selimhorri.app.exception.wrapper.DuplicateBatchKeyException;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
 
 import lombok.RequiredArgsConstructor;
@@ -42,6 +44,8 @@ public class ApiExceptionHandler {
 	
 	@ExceptionHandler(value = {
 		FavouriteNotFoundException.class,
+		BatchLimitExceededException.class,
+		DuplicateBatchKeyException.class,
 	})
 	public <T extends RuntimeException> ResponseEntity<ExceptionMsg> handleApiRequestException(final T e) {
 		
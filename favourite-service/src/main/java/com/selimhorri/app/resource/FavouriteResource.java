@@ -2,10 +2,14 @@ package com.selimhorri.app.resource;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,11 +19,13 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.PageableHelper;
 import com.selimhorri.app.service.FavouriteService;
 
 import lombok.RequiredArgsConstructor;
@@ -34,9 +40,11 @@ public class FavouriteResource {
 	private final FavouriteService favouriteService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> findAll(
+			@PageableDefault(size = AppConstant.DEFAULT_PAGE_SIZE, sort = {"userId", "productId", "likeDate"}) final Pageable pageable, 
+			final WebRequest request) {
 		log.info("*** FavouriteDto List, controller; fetch all favourites *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.favouriteService.findAll()));
+		return ResponseEntity.ok(DtoCollectionResponse.of(this.favouriteService.findAll(PageableHelper.unpagedUnlessRequested(pageable, request))));
 	}
 	
 	@GetMapping("/{userId}/{productId}/{likeDate}")
@@ -68,6 +76,15 @@ public class FavouriteResource {
 		return ResponseEntity.ok(this.favouriteService.save(favouriteDto));
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> saveAll(
+			@RequestBody 
+			@NotEmpty(message = "Input must not be empty") 
+			@Valid final List<FavouriteDto> favouriteDtos) {
+		log.info("*** FavouriteDto List, resource; save favourites in batch *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.favouriteService.saveAll(favouriteDtos)));
+	}
+	
 	@PutMapping
 	public ResponseEntity<FavouriteDto> update(
 			@RequestBody 
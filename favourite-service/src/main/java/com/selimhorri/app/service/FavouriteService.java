@@ -2,14 +2,19 @@ package com.selimhorri.app.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 
 public interface FavouriteService {
 	
 	List<FavouriteDto> findAll();
+	Page<FavouriteDto> findAll(final Pageable pageable);
 	FavouriteDto findById(final FavouriteId favouriteId);
 	FavouriteDto save(final FavouriteDto favouriteDto);
+	List<FavouriteDto> saveAll(final List<FavouriteDto> favouriteDtos);
 	FavouriteDto update(final FavouriteDto favouriteDto);
 	void deleteById(final FavouriteId favouriteId);
 	
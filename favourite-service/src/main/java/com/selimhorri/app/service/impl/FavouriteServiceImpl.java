@@ -1,18 +1,38 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Favourite;
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.exception.wrapper.BatchLimitExceededException;
+import com.selimhorri.app.exception.wrapper.DuplicateBatchKeyException;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
 import com.selimhorri.app.helper.FavouriteMappingHelper;
 import com.selimhorri.app.repository.FavouriteRepository;
@@ -29,24 +49,26 @@ public class FavouriteServiceImpl implements FavouriteService {
 	
 	private final FavouriteRepository favouriteRepository;
 	private final RestTemplate restTemplate;
+	private final CacheManager cacheManager;
 	
 	@Override
 	public List<FavouriteDto> findAll() {
 		log.info("*** FavouriteDto List, service; fetch all favourites *");
-		return this.favouriteRepository.findAll()
+		final var favouriteDtos = this.favouriteRepository.findAll()
 				.stream()
 					.map(FavouriteMappingHelper::map)
-					.map(f -> {
-						f.setUserDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-						f.setProductDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
-						return f;
-					})
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
+		return this.enrich(favouriteDtos);
+	}
+	
+	@Override
+	public Page<FavouriteDto> findAll(final Pageable pageable) {
+		log.info("*** FavouriteDto Page, service; fetch page of favourites *");
+		final var favouriteDtos = this.favouriteRepository.findAll(pageable)
+				.map(FavouriteMappingHelper::map);
+		this.enrich(favouriteDtos.getContent());
+		return favouriteDtos;
 	}
 	
 	@Override
@@ -55,12 +77,10 @@ public class FavouriteServiceImpl implements FavouriteService {
 		return this.favouriteRepository.findById(favouriteId)
 				.map(FavouriteMappingHelper::map)
 				.map(f -> {
-					f.setUserDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-					f.setProductDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
+					f.setUserDto(this.fetchById(AppConstant.USER_CACHE, f.getUserId(), 
+							AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL, UserDto.class));
+					f.setProductDto(this.fetchById(AppConstant.PRODUCT_CACHE, f.getProductId(), 
+							AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL, ProductDto.class));
 					return f;
 				})
 				.orElseThrow(() -> new FavouriteNotFoundException(
@@ -73,6 +93,29 @@ public class FavouriteServiceImpl implements FavouriteService {
 				.save(FavouriteMappingHelper.map(favouriteDto)));
 	}
 	
+	@Override
+	public List<FavouriteDto> saveAll(final List<FavouriteDto> favouriteDtos) {
+		log.info("*** FavouriteDto List, service; save favourites in batch *");
+		if (favouriteDtos.size() > AppConstant.BATCH_MAX_ITEMS) {
+			throw new BatchLimitExceededException(String
+					.format("Batch save accepts at most %d favourites", AppConstant.BATCH_MAX_ITEMS));
+		}
+		final List<Favourite> favourites = favouriteDtos.stream()
+				.map(FavouriteMappingHelper::map)
+				.map(Favourite::markNew)
+				.collect(Collectors.toUnmodifiableList());
+		this.requireNewKeys(favourites);
+		try {
+			return this.favouriteRepository.saveAllAndFlush(favourites)
+					.stream()
+						.map(FavouriteMappingHelper::map)
+						.collect(Collectors.toUnmodifiableList());
+		}
+		catch (DataIntegrityViolationException e) {
+			throw new DuplicateBatchKeyException("Batch conflicts with favourites written concurrently", e);
+		}
+	}
+	
 	@Override
 	public FavouriteDto update(final FavouriteDto favouriteDto) {
 		return FavouriteMappingHelper.map(this.favouriteRepository
@@ -84,6 +127,92 @@ public class FavouriteServiceImpl implements FavouriteService {
 		this.favouriteRepository.deleteById(favouriteId);
 	}
 	
+	/**
+	 * Batch saves are insert-only: markNew makes every row a persist, so repeated 
+	 * or already stored keys are rejected up front instead of failing the flush.
+	 */
+	private void requireNewKeys(final List<Favourite> favourites) {
+		final Set<FavouriteId> ids = new HashSet<>();
+		final Set<FavouriteId> repeated = favourites.stream()
+				.map(Favourite::getId)
+				.filter(id -> !ids.add(id))
+				.collect(Collectors.toUnmodifiableSet());
+		if (!repeated.isEmpty()) {
+			throw new DuplicateBatchKeyException(String.format("Batch repeats favourites with ids: %s", repeated));
+		}
+		final List<FavouriteId> existing = this.favouriteRepository.findAllById(ids)
+				.stream()
+					.map(Favourite::getId)
+					.collect(Collectors.toUnmodifiableList());
+		if (!existing.isEmpty()) {
+			throw new DuplicateBatchKeyException(String.format("Favourites with ids: %s already exist", existing));
+		}
+	}
+	
+	private List<FavouriteDto> enrich(final List<FavouriteDto> favouriteDtos) {
+		
+		final Map<Integer, UserDto> userDtos = this.fetchUsers(favouriteDtos.stream()
+				.map(FavouriteDto::getUserId)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet()));
+		final Map<Integer, ProductDto> productDtos = this.fetchProducts(favouriteDtos.stream()
+				.map(FavouriteDto::getProductId)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet()));
+		
+		favouriteDtos.forEach(f -> {
+			f.setUserDto(userDtos.getOrDefault(f.getUserId(), f.getUserDto()));
+			f.setProductDto(productDtos.getOrDefault(f.getProductId(), f.getProductDto()));
+		});
+		return favouriteDtos;
+	}
+	
+	private Map<Integer, UserDto> fetchUsers(final Set<Integer> userIds) {
+		return this.fetchByIds(AppConstant.USER_CACHE, AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL, userIds, 
+				UserDto.class, UserDto::getUserId, new ParameterizedTypeReference<DtoCollectionResponse<UserDto>>() {});
+	}
+	
+	private Map<Integer, ProductDto> fetchProducts(final Set<Integer> productIds) {
+		return this.fetchByIds(AppConstant.PRODUCT_CACHE, AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL, productIds, 
+				ProductDto.class, ProductDto::getProductId, new ParameterizedTypeReference<DtoCollectionResponse<ProductDto>>() {});
+	}
+	
+	private <T> T fetchById(final String cacheName, final Integer id, final String apiUrl, final Class<T> type) {
+		final Cache cache = this.cacheManager.getCache(cacheName);
+		return Optional.ofNullable(cache.get(id, type))
+				.orElseGet(() -> {
+					final T dto = this.restTemplate.getForObject(apiUrl + "/" + id, type);
+					if (dto != null) {
+						cache.put(id, dto);
+					}
+					return dto;
+				});
+	}
+	
+	private <T> Map<Integer, T> fetchByIds(final String cacheName, final String apiUrl, final Set<Integer> ids, 
+			final Class<T> type, final Function<T, Integer> idExtractor, 
+			final ParameterizedTypeReference<DtoCollectionResponse<T>> responseType) {
+		
+		final Cache cache = this.cacheManager.getCache(cacheName);
+		final Map<Integer, T> dtos = new HashMap<>();
+		final List<Integer> misses = new ArrayList<>();
+		ids.forEach(id -> Optional.ofNullable(cache.get(id, type))
+				.ifPresentOrElse(dto -> dtos.put(id, dto), () -> misses.add(id)));
+		
+		for (int from = 0; from < misses.size(); from += AppConstant.BATCH_MAX_IDS) {
+			final var chunk = misses.subList(from, Math.min(from + AppConstant.BATCH_MAX_IDS, misses.size()));
+			Optional.ofNullable(this.restTemplate
+					.exchange(apiUrl + "/batch", HttpMethod.POST, new HttpEntity<>(chunk), responseType)
+					.getBody())
+				.map(DtoCollectionResponse::getCollection)
+				.ifPresent(fetched -> fetched.forEach(dto -> {
+					cache.put(idExtractor.apply(dto), dto);
+					dtos.put(idExtractor.apply(dto), dto);
+				}));
+		}
+		return dtos;
+	}
+	
 	
 	
 }
@@ -0,0 +1,39 @@
+package com.selimhorri.app.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.CacheInvalidationEvent;
+import com.selimhorri.app.dto.ProductDto;
+
+class CacheInvalidationListenerTest {
+
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager(AppConstant.USER_CACHE, AppConstant.PRODUCT_CACHE);
+
+    private final CacheInvalidationListener listener = new CacheInvalidationListener(cacheManager);
+
+    @Test
+    @DisplayName("evicts only the key named by the event")
+    void evictsAffectedKey() {
+        cacheManager.getCache(AppConstant.PRODUCT_CACHE).put(5, ProductDto.builder().productId(5).build());
+        cacheManager.getCache(AppConstant.PRODUCT_CACHE).put(8, ProductDto.builder().productId(8).build());
+
+        listener.onCacheInvalidation(new CacheInvalidationEvent(AppConstant.PRODUCT_CACHE, 5));
+
+        assertThat(cacheManager.getCache(AppConstant.PRODUCT_CACHE).get(5)).isNull();
+        assertThat(cacheManager.getCache(AppConstant.PRODUCT_CACHE).get(8)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("ignores events for caches this service does not hold")
+    void ignoresUnknownCache() {
+        listener.onCacheInvalidation(new CacheInvalidationEvent("orders", 5));
+
+        assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrder(AppConstant.USER_CACHE, AppConstant.PRODUCT_CACHE);
+    }
+}
@@ -0,0 +1,51 @@
+package com.selimhorri.app.repository;
+
+import java.sql.SQLException;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.selimhorri.app.domain.Favourite;
+import com.selimhorri.app.support.QueryPlanInspector;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:favourite_query_plan_db;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.selimhorri.app.support.QueryPlanInspector",
+        "eureka.client.enabled=false",
+        "eureka.client.register-with-eureka=false",
+        "eureka.client.fetch-registry=false",
+        "spring.zipkin.enabled=false",
+        "spring.cloud.config.enabled=false",
+        "SPRING_CONFIG_IMPORT=optional:file:./"
+    })
+@ActiveProfiles("dev")
+class FavouriteRepositoryQueryPlanIT {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        QueryPlanInspector.reset();
+    }
+
+    @Test
+    @DisplayName("favourites of a product are located through idx_favourites_product_id")
+    void findByProductIdAvoidsFullScan() throws SQLException {
+        entityManager.createQuery("SELECT f FROM Favourite f WHERE f.productId = :productId", Favourite.class)
+            .setParameter("productId", 1)
+            .getResultList();
+
+        QueryPlanInspector.assertNoFullScans(dataSource);
+    }
+}
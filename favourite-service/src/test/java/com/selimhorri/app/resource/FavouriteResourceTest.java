@@ -0,0 +1,92 @@
+package com.selimhorri.app.resource;
+
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Favourite;
+import com.selimhorri.app.exception.ApiExceptionHandler;
+import com.selimhorri.app.repository.FavouriteRepository;
+import com.selimhorri.app.service.impl.FavouriteServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class FavouriteResourceTest {
+
+    private static final String ITEM = "{\"userId\":1,\"productId\":1,\"likeDate\":\"01-01-2024__10:00:00:000000\"}";
+
+    @Mock
+    private FavouriteRepository favouriteRepository;
+
+    @InjectMocks
+    private FavouriteServiceImpl favouriteService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new FavouriteResource(favouriteService))
+            .setControllerAdvice(new ApiExceptionHandler())
+            .build();
+    }
+
+    @Test
+    @DisplayName("POST /batch above the item limit is answered with 400")
+    void postBatchOverLimitIsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/favourites/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(itemsOverLimit()))
+            .andExpect(status().isBadRequest());
+
+        verify(favouriteRepository, never()).saveAllAndFlush(anyIterable());
+    }
+
+    @Test
+    @DisplayName("POST /batch repeating a key is answered with 400")
+    void postBatchWithRepeatedKeyIsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/favourites/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + ITEM + "," + ITEM + "]"))
+            .andExpect(status().isBadRequest());
+
+        verify(favouriteRepository, never()).saveAllAndFlush(anyIterable());
+    }
+
+    @Test
+    @DisplayName("POST /batch with an already stored key is answered with 400")
+    void postBatchWithExistingKeyIsBadRequest() throws Exception {
+        when(favouriteRepository.findAllById(anyIterable())).thenReturn(List.of(Favourite.builder().userId(1).productId(1).likeDate(LocalDateTime.of(2024, 1, 1, 10, 0)).build()));
+
+        mockMvc.perform(post("/api/favourites/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + ITEM + "]"))
+            .andExpect(status().isBadRequest());
+
+        verify(favouriteRepository, never()).saveAllAndFlush(anyIterable());
+    }
+
+    private String itemsOverLimit() {
+        return IntStream.rangeClosed(1, AppConstant.BATCH_MAX_ITEMS + 1)
+            .mapToObj(id -> "{\"userId\":1,\"productId\":" + id + ",\"likeDate\":\"01-01-2024__10:00:00:000000\"}")
+            .collect(Collectors.joining(",", "[", "]"));
+    }
+}
@@ -0,0 +1,96 @@
+package com.selimhorri.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Favourite;
+import com.selimhorri.app.dto.FavouriteDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.repository.FavouriteRepository;
+import com.selimhorri.app.service.impl.FavouriteServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class FavouriteServiceImplTest {
+
+    private static final String USER_BATCH_URL = AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/batch";
+    private static final String PRODUCT_BATCH_URL = AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/batch";
+
+    @Mock
+    private FavouriteRepository favouriteRepository;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager();
+
+    @InjectMocks
+    private FavouriteServiceImpl favouriteService;
+
+    @Test
+    @DisplayName("findAll resolves users and products with one bulk call each")
+    @SuppressWarnings("unchecked")
+    void findAllFetchesDistinctIdsInBulk() {
+        when(favouriteRepository.findAll()).thenReturn(List.of(
+            sampleFavourite(1, 10, 1),
+            sampleFavourite(1, 20, 2),
+            sampleFavourite(2, 10, 3)));
+        when(restTemplate.exchange(eq(USER_BATCH_URL), eq(HttpMethod.POST), any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+            .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(List.of(
+                UserDto.builder().userId(1).firstName("Alice").build(),
+                UserDto.builder().userId(2).firstName("Bob").build()))));
+        when(restTemplate.exchange(eq(PRODUCT_BATCH_URL), eq(HttpMethod.POST), any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+            .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(List.of(
+                ProductDto.builder().productId(10).productTitle("Phone").build(),
+                ProductDto.builder().productId(20).productTitle("Laptop").build()))));
+
+        List<FavouriteDto> result = favouriteService.findAll();
+
+        assertThat(result).hasSize(3);
+        assertThat(result).extracting(f -> f.getUserDto().getFirstName())
+            .containsExactly("Alice", "Alice", "Bob");
+        assertThat(result).extracting(f -> f.getProductDto().getProductTitle())
+            .containsExactly("Phone", "Laptop", "Phone");
+
+        ArgumentCaptor<HttpEntity<List<Integer>>> userIds = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate, times(1))
+            .exchange(eq(USER_BATCH_URL), eq(HttpMethod.POST), userIds.capture(), any(ParameterizedTypeReference.class));
+        assertThat(userIds.getValue().getBody()).containsExactlyInAnyOrder(1, 2);
+        verify(restTemplate, times(1))
+            .exchange(eq(PRODUCT_BATCH_URL), eq(HttpMethod.POST), any(HttpEntity.class), any(ParameterizedTypeReference.class));
+    }
+
+    private Favourite sampleFavourite(final int userId, final int productId, final int day) {
+        return Favourite.builder()
+            .userId(userId)
+            .productId(productId)
+            .likeDate(LocalDateTime.of(2024, 1, day, 10, 0))
+            .build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.selimhorri.app.event;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.config.event.CacheEventProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.CacheInvalidationEvent;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tracks delivery per subscriber instance: every batch is queued for each live instance, and what an 
+ * instance has not acknowledged stays in its own in-memory backlog, redelivered once its exponential 
+ * backoff elapses. A failing instance therefore neither holds the outbox rows back nor makes the healthy 
+ * instances receive the batch again. An instance still failing at the backoff cap, or whose backlog 
+ * outgrows {@code max-pending}, is given up on: its backlog is dropped and its caches fall back to their TTL.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cache-events", name = "transport", havingValue = "http", matchIfMissing = true)
+@Slf4j
+public class HttpCacheInvalidationTransport implements CacheInvalidationTransport {
+	
+	private final DiscoveryClient discoveryClient;
+	private final CacheEventProperties cacheEventProperties;
+	private final RestTemplate restTemplate;
+	private final ConcurrentMap<String, Backoff> backoffs = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, Set<CacheInvalidationEvent>> backlogs = new ConcurrentHashMap<>();
+	
+	public HttpCacheInvalidationTransport(final DiscoveryClient discoveryClient, 
+			final CacheEventProperties cacheEventProperties, final RestTemplateBuilder restTemplateBuilder) {
+		this.discoveryClient = discoveryClient;
+		this.cacheEventProperties = cacheEventProperties;
+		this.restTemplate = restTemplateBuilder
+				.setConnectTimeout(cacheEventProperties.getTimeout())
+				.setReadTimeout(cacheEventProperties.getTimeout())
+				.build();
+	}
+	
+	@Override
+	public synchronized void publish(final List<CacheInvalidationEvent> events) {
+		log.info("*** Void, transport; publish cache invalidation events to subscribers *");
+		final Set<String> uris = new LinkedHashSet<>();
+		this.cacheEventProperties.getSubscribers().forEach(subscriber -> this.discoveryClient
+				.getInstances(subscriber.getServiceId())
+				.forEach(instance -> uris.add(instance.getUri() + subscriber.getContextPath() + AppConstant.CACHE_EVENTS_API_PATH)));
+		this.backlogs.keySet().retainAll(uris);
+		this.backoffs.keySet().retainAll(uris);
+		
+		uris.forEach(uri -> {
+			this.enqueue(uri, events);
+			this.deliver(uri);
+		});
+	}
+	
+	@Scheduled(fixedDelayString = "${app.cache-events.poll-interval:1000}")
+	public synchronized void redeliverBacklogs() {
+		this.backlogs.keySet().forEach(this::deliver);
+	}
+	
+	private void enqueue(final String uri, final List<CacheInvalidationEvent> events) {
+		final Set<CacheInvalidationEvent> backlog = this.backlogs.computeIfAbsent(uri, key -> new LinkedHashSet<>());
+		backlog.addAll(events);
+		if (backlog.size() > this.cacheEventProperties.getMaxPending()) {
+			this.giveUp(uri, String.format("its backlog exceeded %d events", this.cacheEventProperties.getMaxPending()));
+		}
+	}
+	
+	private void deliver(final String uri) {
+		final Set<CacheInvalidationEvent> backlog = this.backlogs.get(uri);
+		if (backlog == null) {
+			return;
+		}
+		final Backoff backoff = this.backoffs.get(uri);
+		final Instant now = Instant.now();
+		if (backoff != null && now.isBefore(backoff.getRetryAt())) {
+			log.debug("*** Void, transport; holding {} events for {} until {} *", backlog.size(), uri, backoff.getRetryAt());
+			return;
+		}
+		
+		final List<CacheInvalidationEvent> events = List.copyOf(backlog);
+		try {
+			this.restTemplate.postForLocation(uri, events);
+			this.backlogs.remove(uri);
+			this.backoffs.remove(uri);
+		}
+		catch (RestClientException e) {
+			final Backoff next = this.backoffs.merge(uri, 
+					Backoff.first(now, this.cacheEventProperties.getBackoffInitial()), 
+					(previous, ignored) -> previous.next(now, this.cacheEventProperties.getBackoffMax()));
+			if (backoff != null && backoff.getDelay().compareTo(this.cacheEventProperties.getBackoffMax()) >= 0) {
+				this.giveUp(uri, e.getMessage());
+				return;
+			}
+			log.warn("*** Void, transport; delivering {} cache invalidation events to {} failed {} time(s), "
+					+ "holding them until {}: {} *", events.size(), uri, next.getFailures(), next.getRetryAt(), e.getMessage());
+		}
+	}
+	
+	private void giveUp(final String uri, final String reason) {
+		final Set<CacheInvalidationEvent> dropped = this.backlogs.remove(uri);
+		log.error("*** Void, transport; giving up on {} cache invalidation events for {} ({}), "
+				+ "its caches fall back to their TTL *", dropped == null ? 0 : dropped.size(), uri, reason);
+	}
+	
+	@Value
+	private static class Backoff {
+		
+		int failures;
+		Duration delay;
+		Instant retryAt;
+		
+		private static Backoff first(final Instant now, final Duration delay) {
+			return new Backoff(1, delay, now.plus(delay));
+		}
+		
+		private Backoff next(final Instant now, final Duration max) {
+			final Duration doubled = this.delay.multipliedBy(2);
+			final Duration delay = doubled.compareTo(max) > 0 ? max : doubled;
+			return new Backoff(this.failures + 1, delay, now.plus(delay));
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,11 +1,40 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.selimhorri.app.domain.Order;
 
 public interface OrderRepository extends JpaRepository<Order, Integer> {
 	
+	Slice<Order> findByOrderIdGreaterThan(final Integer orderId, final Pageable pageable);
+	
+	@Query(value = "SELECT o FROM Order o WHERE o.cart.cartId = :cartId AND o.orderDate BETWEEN :from AND :to", 
+			countQuery = "SELECT COUNT(o) FROM Order o WHERE o.cart.cartId = :cartId AND o.orderDate BETWEEN :from AND :to")
+	Page<Order> findByCartIdAndOrderDateBetween(@Param("cartId") final Integer cartId, 
+			@Param("from") final LocalDateTime from, @Param("to") final LocalDateTime to, final Pageable pageable);
+	
+	@Query(value = "SELECT o FROM Order o JOIN o.cart c WHERE c.userId = :userId AND o.orderDate BETWEEN :from AND :to", 
+			countQuery = "SELECT COUNT(o) FROM Order o JOIN o.cart c WHERE c.userId = :userId AND o.orderDate BETWEEN :from AND :to")
+	Page<Order> findByUserIdAndOrderDateBetween(@Param("userId") final Integer userId, 
+			@Param("from") final LocalDateTime from, @Param("to") final LocalDateTime to, final Pageable pageable);
 	
+	@Transactional(readOnly = true)
+	@QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+	@Query("SELECT o FROM Order o LEFT JOIN FETCH o.cart WHERE o.orderId > :after ORDER BY o.orderId")
+	List<Order> findExportPage(@Param("after") final Integer after, final Pageable pageable);
 	
 }
@@ -4,6 +4,8 @@ import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,10 +14,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.PageableHelper;
 import com.selimhorri.app.service.CartService;
 
 import lombok.RequiredArgsConstructor;
@@ -30,9 +36,23 @@ public class CartResource {
 	private final CartService cartService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<CartDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<CartDto>> findAll(
+			@PageableDefault(size = AppConstant.DEFAULT_PAGE_SIZE, sort = "cartId") final Pageable pageable, 
+			@RequestParam(name = "after", required = false) final Integer after, 
+			final WebRequest request) {
 		log.info("*** CartDto List, controller; fetch all categories *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.cartService.findAll()));
+		if (after != null) {
+			return ResponseEntity.ok(DtoCollectionResponse.of(this.cartService.findAllAfter(after, PageableHelper.cursorPage(pageable, request)), CartDto::getCartId));
+		}
+		return ResponseEntity.ok(DtoCollectionResponse.of(this.cartService.findAll(PageableHelper.unpagedUnlessRequested(pageable, request))));
+	}
+	
+	@GetMapping("/users/{userId}")
+	public ResponseEntity<DtoCollectionResponse<CartDto>> findAllByUserId(
+			@PathVariable("userId") final String userId, 
+			@PageableDefault(size = AppConstant.DEFAULT_PAGE_SIZE, sort = "cartId") final Pageable pageable) {
+		log.info("*** CartDto List, controller; fetch carts by userId *");
+		return ResponseEntity.ok(DtoCollectionResponse.of(this.cartService.findAllByUserId(Integer.parseInt(userId), pageable)));
 	}
 	
 	@GetMapping("/{cartId}")
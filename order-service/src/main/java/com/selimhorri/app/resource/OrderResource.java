@@ -1,9 +1,19 @@
 package com.selimhorri.app.resource;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,10 +22,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.PageableHelper;
 import com.selimhorri.app.service.OrderService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,11 +46,60 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderResource {
 	
 	private final OrderService orderService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAll(
+			@PageableDefault(size = AppConstant.DEFAULT_PAGE_SIZE, sort = "orderId") final Pageable pageable, 
+			@RequestParam(name = "after", required = false) final Integer after, 
+			final WebRequest request) {
 		log.info("*** OrderDto List, controller; fetch all orders *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderService.findAll()));
+		if (after != null) {
+			return ResponseEntity.ok(DtoCollectionResponse.of(this.orderService.findAllAfter(after, PageableHelper.cursorPage(pageable, request)), OrderDto::getOrderId));
+		}
+		return ResponseEntity.ok(DtoCollectionResponse.of(this.orderService.findAll(PageableHelper.unpagedUnlessRequested(pageable, request))));
+	}
+	
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAll() {
+		log.info("*** OrderDto Stream, controller; stream all orders *");
+		final ObjectWriter objectWriter = this.objectMapper.writer()
+				.without(SerializationFeature.INDENT_OUTPUT);
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(outputStream -> this.orderService.streamAll(orderDto -> {
+					try {
+						outputStream.write(objectWriter.writeValueAsBytes(orderDto));
+						outputStream.write('\n');
+					}
+					catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}));
+	}
+	
+	@GetMapping("/carts/{cartId}")
+	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAllByCartId(
+			@PathVariable("cartId") final String cartId, 
+			@RequestParam(name = "from", required = false) @DateTimeFormat(iso = ISO.DATE_TIME) final LocalDateTime from, 
+			@RequestParam(name = "to", required = false) @DateTimeFormat(iso = ISO.DATE_TIME) final LocalDateTime to, 
+			@PageableDefault(size = AppConstant.DEFAULT_PAGE_SIZE, sort = {"orderDate", "orderId"}, direction = Direction.DESC) 
+			final Pageable pageable) {
+		log.info("*** OrderDto List, controller; fetch orders by cartId *");
+		return ResponseEntity.ok(DtoCollectionResponse.of(this.orderService
+				.findAllByCartId(Integer.parseInt(cartId), from, to, pageable)));
+	}
+	
+	@GetMapping("/users/{userId}")
+	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAllByUserId(
+			@PathVariable("userId") final String userId, 
+			@RequestParam(name = "from", required = false) @DateTimeFormat(iso = ISO.DATE_TIME) final LocalDateTime from, 
+			@RequestParam(name = "to", required = false) @DateTimeFormat(iso = ISO.DATE_TIME) final LocalDateTime to, 
+			@PageableDefault(size = AppConstant.DEFAULT_PAGE_SIZE, sort = {"orderDate", "orderId"}, direction = Direction.DESC) 
+			final Pageable pageable) {
+		log.info("*** OrderDto List, controller; fetch orders by userId *");
+		return ResponseEntity.ok(DtoCollectionResponse.of(this.orderService
+				.findAllByUserId(Integer.parseInt(userId), from, to, pageable)));
 	}
 	
 	@GetMapping("/{orderId}")
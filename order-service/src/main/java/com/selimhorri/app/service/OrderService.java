@@ -1,12 +1,23 @@
 package com.selimhorri.app.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.selimhorri.app.dto.OrderDto;
 
 public interface OrderService {
 	
 	List<OrderDto> findAll();
+	Page<OrderDto> findAll(final Pageable pageable);
+	Page<OrderDto> findAllByCartId(final Integer cartId, final LocalDateTime from, final LocalDateTime to, final Pageable pageable);
+	Page<OrderDto> findAllByUserId(final Integer userId, final LocalDateTime from, final LocalDateTime to, final Pageable pageable);
+	Slice<OrderDto> findAllAfter(final Integer orderId, final Pageable pageable);
+	void streamAll(final Consumer<OrderDto> consumer);
 	OrderDto findById(final Integer orderId);
 	OrderDto save(final OrderDto orderDto);
 	OrderDto update(final OrderDto orderDto);
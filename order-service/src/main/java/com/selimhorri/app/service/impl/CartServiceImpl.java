@@ -1,16 +1,33 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.CartNotFoundException;
 import com.selimhorri.app.helper.CartMappingHelper;
 import com.selimhorri.app.repository.CartRepository;
@@ -27,20 +44,45 @@ public class CartServiceImpl implements CartService {
 	
 	private final CartRepository cartRepository;
 	private final RestTemplate restTemplate;
+	private final CacheManager cacheManager;
 	
 	@Override
 	public List<CartDto> findAll() {
 		log.info("*** CartDto List, service; fetch all carts *");
-		return this.cartRepository.findAll()
+		final var cartDtos = this.cartRepository.findAll()
 				.stream()
 					.map(CartMappingHelper::map)
-					.map(c -> {
-						c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
-						return c;
-					})
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
+		return this.enrich(cartDtos);
+	}
+	
+	@Override
+	public Page<CartDto> findAll(final Pageable pageable) {
+		log.info("*** CartDto Page, service; fetch page of carts *");
+		final var cartDtos = this.cartRepository.findAll(pageable)
+				.map(CartMappingHelper::map);
+		this.enrich(cartDtos.getContent());
+		return cartDtos;
+	}
+	
+	@Override
+	public Page<CartDto> findAllByUserId(final Integer userId, final Pageable pageable) {
+		log.info("*** CartDto Page, service; fetch page of carts by userId *");
+		final var cartDtos = this.cartRepository.findByUserId(userId, pageable)
+				.map(CartMappingHelper::map);
+		this.enrich(cartDtos.getContent());
+		return cartDtos;
+	}
+	
+	@Override
+	public Slice<CartDto> findAllAfter(final Integer cartId, final Pageable pageable) {
+		log.info("*** CartDto Slice, service; fetch carts after cursor *");
+		final var cartDtos = this.cartRepository.findByCartIdGreaterThan(cartId, 
+				PageRequest.of(0, pageable.getPageSize(), Sort.by("cartId")))
+				.map(CartMappingHelper::map);
+		this.enrich(cartDtos.getContent());
+		return cartDtos;
 	}
 	
 	@Override
@@ -49,8 +91,7 @@ public class CartServiceImpl implements CartService {
 		return this.cartRepository.findById(cartId)
 				.map(CartMappingHelper::map)
 				.map(c -> {
-					c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
+					c.setUserDto(this.fetchUser(c.getUserDto().getUserId()));
 					return c;
 				})
 				.orElseThrow(() -> new CartNotFoundException(String
@@ -84,6 +125,50 @@ public class CartServiceImpl implements CartService {
 		this.cartRepository.deleteById(cartId);
 	}
 	
+	private List<CartDto> enrich(final List<CartDto> cartDtos) {
+		final Map<Integer, UserDto> userDtos = this.fetchUsers(cartDtos.stream()
+				.map(CartDto::getUserId)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet()));
+		cartDtos.forEach(c -> c.setUserDto(userDtos.getOrDefault(c.getUserId(), c.getUserDto())));
+		return cartDtos;
+	}
+	
+	private UserDto fetchUser(final Integer userId) {
+		final Cache userCache = this.cacheManager.getCache(AppConstant.USER_CACHE);
+		return Optional.ofNullable(userCache.get(userId, UserDto.class))
+				.orElseGet(() -> {
+					final UserDto userDto = this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+							.USER_SERVICE_API_URL + "/" + userId, UserDto.class);
+					if (userDto != null) {
+						userCache.put(userId, userDto);
+					}
+					return userDto;
+				});
+	}
+	
+	private Map<Integer, UserDto> fetchUsers(final Set<Integer> userIds) {
+		final Cache userCache = this.cacheManager.getCache(AppConstant.USER_CACHE);
+		final Map<Integer, UserDto> userDtos = new HashMap<>();
+		final List<Integer> misses = new ArrayList<>();
+		userIds.forEach(userId -> Optional.ofNullable(userCache.get(userId, UserDto.class))
+				.ifPresentOrElse(u -> userDtos.put(userId, u), () -> misses.add(userId)));
+		
+		for (int from = 0; from < misses.size(); from += AppConstant.BATCH_MAX_IDS) {
+			final var chunk = misses.subList(from, Math.min(from + AppConstant.BATCH_MAX_IDS, misses.size()));
+			Optional.ofNullable(this.restTemplate
+					.exchange(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/batch", HttpMethod.POST, 
+							new HttpEntity<>(chunk), new ParameterizedTypeReference<DtoCollectionResponse<UserDto>>() {})
+					.getBody())
+				.map(DtoCollectionResponse::getCollection)
+				.ifPresent(users -> users.forEach(u -> {
+					userCache.put(u.getUserId(), u);
+					userDtos.put(u.getUserId(), u);
+				}));
+		}
+		return userDtos;
+	}
+	
 	
 	
 }
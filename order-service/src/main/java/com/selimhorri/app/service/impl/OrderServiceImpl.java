@@ -1,16 +1,28 @@
 package com.selimhorri.app.service.impl;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Order;
+import com.selimhorri.app.domain.OutboxEvent;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.exception.wrapper.OrderNotFoundException;
 import com.selimhorri.app.helper.OrderMappingHelper;
 import com.selimhorri.app.repository.OrderRepository;
+import com.selimhorri.app.repository.OutboxEventRepository;
 import com.selimhorri.app.service.OrderService;
 
 import lombok.RequiredArgsConstructor;
@@ -22,7 +34,11 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
 	
+	private static final LocalDateTime ORDER_DATE_LOWER_BOUND = LocalDateTime.of(1970, 1, 1, 0, 0);
+	private static final LocalDateTime ORDER_DATE_UPPER_BOUND = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+	
 	private final OrderRepository orderRepository;
+	private final OutboxEventRepository outboxEventRepository;
 	
 	@Override
 	public List<OrderDto> findAll() {
@@ -34,6 +50,57 @@ public class OrderServiceImpl implements OrderService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public Page<OrderDto> findAll(final Pageable pageable) {
+		log.info("*** OrderDto Page, service; fetch page of orders *");
+		return this.orderRepository.findAll(pageable)
+				.map(OrderMappingHelper::map);
+	}
+	
+	@Override
+	public Page<OrderDto> findAllByCartId(final Integer cartId, final LocalDateTime from, final LocalDateTime to, 
+			final Pageable pageable) {
+		log.info("*** OrderDto Page, service; fetch page of orders by cartId *");
+		return this.orderRepository.findByCartIdAndOrderDateBetween(cartId, 
+				from == null ? ORDER_DATE_LOWER_BOUND : from, to == null ? ORDER_DATE_UPPER_BOUND : to, pageable)
+				.map(OrderMappingHelper::map);
+	}
+	
+	@Override
+	public Page<OrderDto> findAllByUserId(final Integer userId, final LocalDateTime from, final LocalDateTime to, 
+			final Pageable pageable) {
+		log.info("*** OrderDto Page, service; fetch page of orders by userId *");
+		return this.orderRepository.findByUserIdAndOrderDateBetween(userId, 
+				from == null ? ORDER_DATE_LOWER_BOUND : from, to == null ? ORDER_DATE_UPPER_BOUND : to, pageable)
+				.map(OrderMappingHelper::map);
+	}
+	
+	@Override
+	public Slice<OrderDto> findAllAfter(final Integer orderId, final Pageable pageable) {
+		log.info("*** OrderDto Slice, service; fetch orders after cursor *");
+		return this.orderRepository.findByOrderIdGreaterThan(orderId, 
+				PageRequest.of(0, pageable.getPageSize(), Sort.by("orderId")))
+				.map(OrderMappingHelper::map);
+	}
+	
+	@Override
+	@Transactional(Transactional.TxType.NOT_SUPPORTED)
+	public void streamAll(final Consumer<OrderDto> consumer) {
+		log.info("*** OrderDto Stream, service; stream all orders *");
+		// keyset pages, each in its own short read-only transaction: the export never holds 
+		// a pooled connection while it writes to a slow client
+		final Pageable pageable = PageRequest.of(0, AppConstant.EXPORT_PAGE_SIZE);
+		List<Order> page;
+		Integer after = 0;
+		do {
+			page = this.orderRepository.findExportPage(after, pageable);
+			page.forEach(o -> consumer.accept(OrderMappingHelper.map(o)));
+			if (!page.isEmpty()) {
+				after = page.get(page.size() - 1).getOrderId();
+			}
+		} while (page.size() == AppConstant.EXPORT_PAGE_SIZE);
+	}
+	
 	@Override
 	public OrderDto findById(final Integer orderId) {
 		log.info("*** OrderDto, service; fetch order by id *");
@@ -53,21 +120,34 @@ public class OrderServiceImpl implements OrderService {
 	@Override
 	public OrderDto update(final OrderDto orderDto) {
 		log.info("*** OrderDto, service; update order *");
-		return OrderMappingHelper.map(this.orderRepository
+		final OrderDto updated = OrderMappingHelper.map(this.orderRepository
 				.save(OrderMappingHelper.map(orderDto)));
+		this.recordInvalidation(updated.getOrderId());
+		return updated;
 	}
 	
 	@Override
 	public OrderDto update(final Integer orderId, final OrderDto orderDto) {
 		log.info("*** OrderDto, service; update order with orderId *");
-		return OrderMappingHelper.map(this.orderRepository
+		final OrderDto updated = OrderMappingHelper.map(this.orderRepository
 				.save(OrderMappingHelper.map(this.findById(orderId))));
+		this.recordInvalidation(orderId);
+		return updated;
 	}
 	
 	@Override
 	public void deleteById(final Integer orderId) {
 		log.info("*** Void, service; delete order by id *");
 		this.orderRepository.delete(OrderMappingHelper.map(this.findById(orderId)));
+		this.recordInvalidation(orderId);
+	}
+	
+	private void recordInvalidation(final Integer orderId) {
+		this.outboxEventRepository.save(OutboxEvent.builder()
+				.cacheName(AppConstant.ORDER_CACHE)
+				.entityId(orderId)
+				.createdAt(Instant.now())
+				.build());
 	}
 	
 	
@@ -0,0 +1,2 @@
+CREATE INDEX idx_orders_cart_id_order_date ON orders (cart_id, order_date);
+DROP INDEX idx_orders_cart_id ON orders;
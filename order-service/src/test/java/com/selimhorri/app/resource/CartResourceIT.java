@@ -77,12 +77,13 @@ class CartResourceIT {
     void findAllEnrichesUserList() throws Exception {
         cartRepository.save(Cart.builder().userId(77).build());
 
-        stubFor(com.github.tomakehurst.wiremock.client.WireMock.get(urlEqualTo("/user-service/api/users/77"))
+        stubFor(com.github.tomakehurst.wiremock.client.WireMock.post(urlEqualTo("/user-service/api/users/batch"))
             .willReturn(aResponse()
                 .withHeader("Content-Type", "application/json")
                 .withBody("{" +
+                    "\"collection\":[{" +
                     "\"userId\":77," +
-                    "\"firstName\":\"Bob\"}")));
+                    "\"firstName\":\"Bob\"}]}")));
 
     mockMvc.perform(get("/order-service/api/carts")
         .contextPath("/order-service"))
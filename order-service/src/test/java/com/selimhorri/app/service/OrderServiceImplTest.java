@@ -2,12 +2,17 @@ package com.selimhorri.app.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,13 +20,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Cart;
 import com.selimhorri.app.domain.Order;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.exception.wrapper.OrderNotFoundException;
 import com.selimhorri.app.repository.OrderRepository;
+import com.selimhorri.app.repository.OutboxEventRepository;
 import com.selimhorri.app.service.impl.OrderServiceImpl;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +41,9 @@ class OrderServiceImplTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -48,6 +62,20 @@ class OrderServiceImplTest {
             .isInstanceOf(UnsupportedOperationException.class);
     }
 
+    @Test
+    @DisplayName("findAllByUserId widens a missing date range to all orders")
+    void findAllByUserIdDefaultsDateRange() {
+        Pageable pageable = PageRequest.of(0, 20);
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(orderRepository.findByUserIdAndOrderDateBetween(eq(55), eq(from), eq(LocalDateTime.of(9999, 12, 31, 23, 59, 59)), eq(pageable)))
+            .thenReturn(new PageImpl<>(List.of(sampleOrder()), pageable, 1));
+
+        Page<OrderDto> result = orderService.findAllByUserId(55, from, null, pageable);
+
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent().get(0).getCartDto().getCartId()).isEqualTo(sampleOrder().getCart().getCartId());
+    }
+
     @Test
     @DisplayName("update order delegates to repository with mapped DTO")
     void updateDelegatesToRepository() {
@@ -93,6 +121,31 @@ class OrderServiceImplTest {
             .isInstanceOf(OrderNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("streamAll pages by keyset after the last exported id and stops on a short page")
+    void streamAllPagesByKeyset() {
+        List<Order> fullPage = IntStream.rangeClosed(1, AppConstant.EXPORT_PAGE_SIZE)
+            .mapToObj(this::sampleOrder)
+            .collect(Collectors.toList());
+        when(orderRepository.findExportPage(eq(0), any(Pageable.class))).thenReturn(fullPage);
+        when(orderRepository.findExportPage(eq(AppConstant.EXPORT_PAGE_SIZE), any(Pageable.class)))
+            .thenReturn(List.of(sampleOrder(AppConstant.EXPORT_PAGE_SIZE + 1)));
+
+        List<OrderDto> exported = new ArrayList<>();
+        orderService.streamAll(exported::add);
+
+        assertThat(exported).hasSize(AppConstant.EXPORT_PAGE_SIZE + 1);
+        assertThat(exported.get(AppConstant.EXPORT_PAGE_SIZE).getOrderId()).isEqualTo(AppConstant.EXPORT_PAGE_SIZE + 1);
+    }
+
+    private Order sampleOrder(final int orderId) {
+        return Order.builder()
+            .orderId(orderId)
+            .orderDate(LocalDateTime.of(2023, 6, 10, 9, 30))
+            .cart(Cart.builder().cartId(4).userId(2).build())
+            .build();
+    }
+
     private Order sampleOrder() {
         Cart cart = Cart.builder()
             .cartId(4)
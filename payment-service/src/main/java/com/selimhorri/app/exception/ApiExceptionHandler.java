@@ -12,6 +12,8 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import com.selimhorri.app.exception.payload.ExceptionMsg;
+import com.selimhorri.app.exception.wrapper.BatchLimitExceededException;
+import com.selimhorri.app.exception.wrapper.InvalidPageRequestException;
 import com.selimhorri.app.exception.wrapper.PaymentNotFoundException;
 
 import lombok.RequiredArgsConstructor;
@@ -43,6 +45,8 @@ public class ApiExceptionHandler {
 	@ExceptionHandler(value = {
 		IllegalStateException.class,
 		PaymentNotFoundException.class,
+		BatchLimitExceededException.class,
+		InvalidPageRequestException.class,
 	})
 	public <T extends RuntimeException> ResponseEntity<ExceptionMsg> handleApiRequestException(final T e) {
 		
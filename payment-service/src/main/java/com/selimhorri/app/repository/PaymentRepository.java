@@ -1,11 +1,30 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.List;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.selimhorri.app.domain.Payment;
 
 public interface PaymentRepository extends JpaRepository<Payment, Integer> {
 	
+	Page<Payment> findByOrderId(final Integer orderId, final Pageable pageable);
+	Slice<Payment> findByPaymentIdGreaterThan(final Integer paymentId, final Pageable pageable);
 	
+	@Transactional(readOnly = true)
+	@QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+	@Query("SELECT p FROM Payment p WHERE p.paymentId > :after ORDER BY p.paymentId")
+	List<Payment> findExportPage(@Param("after") final Integer after, final Pageable pageable);
 	
 }
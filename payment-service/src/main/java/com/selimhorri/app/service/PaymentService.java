@@ -1,14 +1,24 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.selimhorri.app.dto.PaymentDto;
 
 public interface PaymentService {
 	
 	List<PaymentDto> findAll();
+	Page<PaymentDto> findAll(final Pageable pageable);
+	Page<PaymentDto> findAllByOrderId(final Integer orderId, final Pageable pageable);
+	Slice<PaymentDto> findAllAfter(final Integer paymentId, final Pageable pageable);
+	void streamAll(final Consumer<PaymentDto> consumer);
 	PaymentDto findById(final Integer paymentId);
 	PaymentDto save(final PaymentDto paymentDto);
+	List<PaymentDto> saveAll(final List<PaymentDto> paymentDtos);
 	PaymentDto update(final PaymentDto paymentDto);
 	void deleteById(final Integer paymentId);
 	
@@ -1,16 +1,27 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Payment;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.exception.wrapper.BatchLimitExceededException;
 import com.selimhorri.app.exception.wrapper.PaymentNotFoundException;
 import com.selimhorri.app.helper.PaymentMappingHelper;
 import com.selimhorri.app.repository.PaymentRepository;
@@ -27,6 +38,7 @@ public class PaymentServiceImpl implements PaymentService {
 	
 	private final PaymentRepository paymentRepository;
 	private final RestTemplate restTemplate;
+	private final CacheManager cacheManager;
 	
 	@Override
 	public List<PaymentDto> findAll() {
@@ -35,22 +47,71 @@ public class PaymentServiceImpl implements PaymentService {
 				.stream()
 					.map(PaymentMappingHelper::map)
 					.map(p -> {
-						p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
+						p.setOrderDto(this.fetchOrder(p.getOrderDto().getOrderId()));
 						return p;
 					})
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public Page<PaymentDto> findAll(final Pageable pageable) {
+		log.info("*** PaymentDto Page, service; fetch page of payments *");
+		return this.paymentRepository.findAll(pageable)
+				.map(PaymentMappingHelper::map)
+				.map(p -> {
+					p.setOrderDto(this.fetchOrder(p.getOrderDto().getOrderId()));
+					return p;
+				});
+	}
+	
+	@Override
+	public Page<PaymentDto> findAllByOrderId(final Integer orderId, final Pageable pageable) {
+		log.info("*** PaymentDto Page, service; fetch page of payments by orderId *");
+		final Page<PaymentDto> paymentDtos = this.paymentRepository.findByOrderId(orderId, pageable)
+				.map(PaymentMappingHelper::map);
+		if (paymentDtos.hasContent()) {
+			final OrderDto orderDto = this.fetchOrder(orderId);
+			paymentDtos.forEach(p -> p.setOrderDto(orderDto));
+		}
+		return paymentDtos;
+	}
+	
+	@Override
+	public Slice<PaymentDto> findAllAfter(final Integer paymentId, final Pageable pageable) {
+		log.info("*** PaymentDto Slice, service; fetch payments after cursor *");
+		return this.paymentRepository.findByPaymentIdGreaterThan(paymentId, 
+				PageRequest.of(0, pageable.getPageSize(), Sort.by("paymentId")))
+				.map(PaymentMappingHelper::map)
+				.map(p -> {
+					p.setOrderDto(this.fetchOrder(p.getOrderDto().getOrderId()));
+					return p;
+				});
+	}
+	
+	@Override
+	@Transactional(Transactional.TxType.NOT_SUPPORTED)
+	public void streamAll(final Consumer<PaymentDto> consumer) {
+		log.info("*** PaymentDto Stream, service; stream all payments *");
+		final Pageable pageable = PageRequest.of(0, AppConstant.EXPORT_PAGE_SIZE);
+		List<Payment> page;
+		Integer after = 0;
+		do {
+			page = this.paymentRepository.findExportPage(after, pageable);
+			page.forEach(p -> consumer.accept(PaymentMappingHelper.map(p)));
+			if (!page.isEmpty()) {
+				after = page.get(page.size() - 1).getPaymentId();
+			}
+		} while (page.size() == AppConstant.EXPORT_PAGE_SIZE);
+	}
+	
 	@Override
 	public PaymentDto findById(final Integer paymentId) {
 		log.info("*** PaymentDto, service; fetch payment by id *");
 		return this.paymentRepository.findById(paymentId)
 				.map(PaymentMappingHelper::map)
 				.map(p -> {
-					p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
+					p.setOrderDto(this.fetchOrder(p.getOrderDto().getOrderId()));
 					return p;
 				})
 				.orElseThrow(() -> new PaymentNotFoundException(String.format("Payment with id: %d not found", paymentId)));
@@ -63,6 +124,21 @@ public class PaymentServiceImpl implements PaymentService {
 				.save(PaymentMappingHelper.map(paymentDto)));
 	}
 	
+	@Override
+	public List<PaymentDto> saveAll(final List<PaymentDto> paymentDtos) {
+		log.info("*** PaymentDto List, service; save payments in batch *");
+		if (paymentDtos.size() > AppConstant.BATCH_MAX_ITEMS) {
+			throw new BatchLimitExceededException(String
+					.format("Batch save accepts at most %d payments", AppConstant.BATCH_MAX_ITEMS));
+		}
+		return this.paymentRepository.saveAll(paymentDtos.stream()
+					.map(PaymentMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()))
+				.stream()
+					.map(PaymentMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public PaymentDto update(final PaymentDto paymentDto) {
 		log.info("*** PaymentDto, service; update payment *");
@@ -76,6 +152,19 @@ public class PaymentServiceImpl implements PaymentService {
 		this.paymentRepository.deleteById(paymentId);
 	}
 	
+	private OrderDto fetchOrder(final Integer orderId) {
+		final Cache orderCache = this.cacheManager.getCache(AppConstant.ORDER_CACHE);
+		return Optional.ofNullable(orderCache.get(orderId, OrderDto.class))
+				.orElseGet(() -> {
+					final OrderDto orderDto = this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+							.ORDER_SERVICE_API_URL + "/" + orderId, OrderDto.class);
+					if (orderDto != null) {
+						orderCache.put(orderId, orderDto);
+					}
+					return orderDto;
+				});
+	}
+	
 	
 	
 }
@@ -0,0 +1,49 @@
+package com.selimhorri.app.repository;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.selimhorri.app.support.QueryPlanInspector;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:payment_query_plan_db;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.selimhorri.app.support.QueryPlanInspector",
+        "eureka.client.enabled=false",
+        "eureka.client.register-with-eureka=false",
+        "eureka.client.fetch-registry=false",
+        "spring.zipkin.enabled=false",
+        "spring.cloud.config.enabled=false",
+        "SPRING_CONFIG_IMPORT=optional:file:./"
+    })
+@ActiveProfiles("dev")
+class PaymentRepositoryQueryPlanIT {
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        QueryPlanInspector.reset();
+    }
+
+    @Test
+    @DisplayName("findByOrderId pages payments through idx_payments_order_id")
+    void findByOrderIdAvoidsFullScan() throws SQLException {
+        paymentRepository.findByOrderId(1, PageRequest.of(0, 1, Sort.by("paymentId")));
+
+        QueryPlanInspector.assertNoFullScans(dataSource);
+    }
+}
@@ -4,8 +4,12 @@ import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.reset;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -15,8 +19,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.selimhorri.app.domain.Payment;
 import com.selimhorri.app.domain.PaymentStatus;
@@ -74,4 +80,34 @@ class PaymentResourceIT {
             .andExpect(jsonPath("$.order.orderId").value(123))
             .andExpect(jsonPath("$.order.orderDesc").value("Mocked order"));
     }
+
+    @Test
+    @DisplayName("GET /api/payments con Accept application/x-ndjson transmite un pago por línea")
+    void streamAllWritesNdjson() throws Exception {
+        paymentRepository.save(Payment.builder()
+            .orderId(1)
+            .isPayed(true)
+            .paymentStatus(PaymentStatus.COMPLETED)
+            .build());
+        paymentRepository.save(Payment.builder()
+            .orderId(2)
+            .isPayed(false)
+            .paymentStatus(PaymentStatus.NOT_STARTED)
+            .build());
+
+        MvcResult result = mockMvc.perform(get("/payment-service/api/payments")
+            .contextPath("/payment-service")
+            .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"orderId\":1");
+        assertThat(lines[1]).contains("\"orderId\":2");
+    }
 }
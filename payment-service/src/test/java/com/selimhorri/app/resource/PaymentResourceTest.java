@@ -0,0 +1,63 @@
+package com.selimhorri.app.resource;
+
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.exception.ApiExceptionHandler;
+import com.selimhorri.app.repository.PaymentRepository;
+import com.selimhorri.app.service.impl.PaymentServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentResourceTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @InjectMocks
+    private PaymentServiceImpl paymentService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new PaymentResource(paymentService, new ObjectMapper()))
+            .setControllerAdvice(new ApiExceptionHandler())
+            .build();
+    }
+
+    @Test
+    @DisplayName("POST /batch above the item limit is answered with 400")
+    void postBatchOverLimitIsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/payments/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(itemsOverLimit()))
+            .andExpect(status().isBadRequest());
+
+        verify(paymentRepository, never()).saveAll(anyIterable());
+    }
+
+    private String itemsOverLimit() {
+        return IntStream.rangeClosed(1, AppConstant.BATCH_MAX_ITEMS + 1)
+            .mapToObj(id -> "{\"isPayed\":false,\"order\":{\"orderId\":" + id + "}}")
+            .collect(Collectors.joining(",", "[", "]"));
+    }
+}
@@ -1,6 +1,7 @@
 package com.selimhorri.app.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -12,7 +13,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.web.client.RestTemplate;
 
 import com.selimhorri.app.constant.AppConstant;
@@ -33,6 +41,9 @@ class PaymentServiceImplTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager();
+
     @InjectMocks
     private PaymentServiceImpl paymentService;
 
@@ -65,6 +76,40 @@ class PaymentServiceImplTest {
         assertThat(payments.get(0).getOrderDto().getOrderDesc()).isEqualTo("bulk");
     }
 
+    @Test
+    @DisplayName("findById serves repeated order lookups from the local cache")
+    void findByIdCachesOrderLookups() {
+        when(paymentRepository.findById(12)).thenReturn(Optional.of(samplePayment()));
+        when(restTemplate.getForObject(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/" + 7, OrderDto.class))
+            .thenReturn(OrderDto.builder().orderId(7).orderDesc("cached").build());
+
+        paymentService.findById(12);
+        PaymentDto result = paymentService.findById(12);
+
+        assertThat(result.getOrderDto().getOrderDesc()).isEqualTo("cached");
+        verify(restTemplate, times(1))
+            .getForObject(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/" + 7, OrderDto.class);
+    }
+
+    @Test
+    @DisplayName("findAllByOrderId looks the shared order up once for the whole page")
+    void findAllByOrderIdFetchesOrderOnce() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Payment second = samplePayment();
+        second.setPaymentId(13);
+        when(paymentRepository.findByOrderId(7, pageable))
+            .thenReturn(new PageImpl<>(List.of(samplePayment(), second), pageable, 2));
+        when(restTemplate.getForObject(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/" + 7, OrderDto.class))
+            .thenReturn(OrderDto.builder().orderId(7).orderDesc("shared").build());
+
+        Page<PaymentDto> payments = paymentService.findAllByOrderId(7, pageable);
+
+        assertThat(payments.getContent()).extracting(p -> p.getOrderDto().getOrderDesc()).containsExactly("shared", "shared");
+        verify(cacheManager, times(1)).getCache(AppConstant.ORDER_CACHE);
+        verify(restTemplate, times(1))
+            .getForObject(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/" + 7, OrderDto.class);
+    }
+
     @Test
     @DisplayName("findById throws when payment missing")
     void findByIdMissingThrows() {
@@ -0,0 +1,79 @@
+package com.selimhorri.app.config.cache;
+
+import java.net.URI;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.EntryUnit;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ObjectUtils;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.hibernate-cache", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(HibernateCacheProperties.class)
+public class HibernateCacheConfig {
+	
+	/**
+	 * The manager is keyed by a URI unique to this application context so that several contexts in one JVM
+	 * (test slices, parent/child contexts) each own their regions instead of colliding on the provider's default manager.
+	 */
+	@Bean(destroyMethod = "close")
+	public CacheManager hibernateCacheManagerBean(final HibernateCacheProperties hibernateCacheProperties, 
+			final ApplicationContext applicationContext) {
+		ConfigurationBuilder configuration = ConfigurationBuilder.newConfigurationBuilder();
+		for (final var entry : hibernateCacheProperties.getRegions().entrySet()) {
+			final HibernateCacheProperties.Region region = entry.getValue();
+			ResourcePoolsBuilder resourcePools = ResourcePoolsBuilder.newResourcePoolsBuilder()
+					.heap(region.getHeapEntries(), EntryUnit.ENTRIES);
+			if (region.getOffHeapMb() > 0) {
+				resourcePools = resourcePools.offheap(region.getOffHeapMb(), MemoryUnit.MB);
+			}
+			configuration = configuration.withCache(entry.getKey(), CacheConfigurationBuilder
+					.newCacheConfigurationBuilder(Object.class, Object.class, resourcePools)
+					.withExpiry(region.getTtl() == null ? 
+							ExpiryPolicyBuilder.noExpiration() : ExpiryPolicyBuilder.timeToLiveExpiration(region.getTtl())));
+		}
+		final URI uri = URI.create("urn:hibernate-cache:" + ObjectUtils.getIdentityHexString(applicationContext));
+		return ((EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName()))
+				.getCacheManager(uri, configuration.build());
+	}
+	
+	@Bean
+	public HibernatePropertiesCustomizer hibernateCachePropertiesCustomizer(final CacheManager hibernateCacheManagerBean) {
+		return hibernateProperties -> {
+			hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, Boolean.TRUE);
+			hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, Boolean.TRUE);
+			hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+			hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, Boolean.TRUE);
+			hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManagerBean);
+			hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+		};
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
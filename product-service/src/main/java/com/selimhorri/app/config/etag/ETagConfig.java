@@ -0,0 +1,38 @@
+package com.selimhorri.app.config.etag;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+@Configuration
+public class ETagConfig {
+	
+	/**
+	 * Weak ETags: Tomcat skips gzip for responses carrying a strong ETag (noCompressionStrongETag), 
+	 * which would switch compression off for exactly the catalog traffic it is meant for.
+	 */
+	@Bean
+	public FilterRegistrationBean<ShallowEtagHeaderFilter> shallowEtagHeaderFilterBean() {
+		final ShallowEtagHeaderFilter filter = new ShallowEtagHeaderFilter();
+		filter.setWriteWeakETag(true);
+		final FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(filter);
+		registration.addUrlPatterns("/api/products/*", "/api/categories/*");
+		registration.setName("shallowEtagHeaderFilter");
+		return registration;
+	}
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,29 @@
+package com.selimhorri.app.config.inventory;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.inventory")
+@Data
+public class InventoryProperties {
+	
+	private Duration reservationTtl = Duration.ofMinutes(15);
+	private Set<Integer> hotProductIds = new HashSet<>();
+	private int stripes = 8;
+	
+}
+
+
+
+
+
+
+
+
+
+
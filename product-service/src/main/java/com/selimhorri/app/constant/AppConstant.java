@@ -10,6 +10,11 @@ public abstract class AppConstant {
 	public static final String LOCAL_DATE_TIME_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	public static final String ZONED_DATE_TIME_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	public static final String INSTANT_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
+	public static final int BATCH_MAX_IDS = 500;
+	public static final int DEFAULT_PAGE_SIZE = 20;
+	public static final String PRODUCT_CACHE = "products";
+	public static final String CATEGORY_CACHE = "categories";
+	public static final String CACHE_EVENTS_API_PATH = "/api/cache-events";
 	
 	@NoArgsConstructor(access = AccessLevel.PRIVATE)
 	public abstract class DiscoveredDomainsApi {
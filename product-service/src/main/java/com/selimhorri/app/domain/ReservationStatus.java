@@ -0,0 +1,26 @@
+package com.selimhorri.app.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum ReservationStatus {
+	
+	RESERVED("reserved"),
+	COMMITTED("committed"),
+	RELEASED("released");
+	
+	private final String status;
+	
+}
+
+
+
+
+
+
+
+
+
+
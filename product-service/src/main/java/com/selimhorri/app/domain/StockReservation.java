@@ -0,0 +1,69 @@
+package com.selimhorri.app.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "stock_reservations", uniqueConstraints = @UniqueConstraint(
+		name = "uk_stock_reservations_reservation_id_product_id", columnNames = {"reservation_id", "product_id"}))
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public final class StockReservation implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "stock_reservation_id", unique = true, nullable = false, updatable = false)
+	private Integer stockReservationId;
+	
+	@Column(name = "reservation_id", nullable = false, updatable = false)
+	private String reservationId;
+	
+	@Column(name = "product_id", nullable = false, updatable = false)
+	private Integer productId;
+	
+	@Column(name = "quantity", nullable = false, updatable = false)
+	private Integer quantity;
+	
+	@Column(name = "hot", nullable = false, updatable = false)
+	private Boolean hot;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(name = "reservation_status", nullable = false)
+	private ReservationStatus reservationStatus;
+	
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private Instant createdAt;
+	
+	@Column(name = "updated_at")
+	private Instant updatedAt;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,22 @@
+package com.selimhorri.app.dto;
+
+public enum StockLineStatus {
+	
+	RESERVED,
+	COMMITTED,
+	RELEASED,
+	INSUFFICIENT_STOCK,
+	NOT_FOUND,
+	ROLLED_BACK;
+	
+}
+
+
+
+
+
+
+
+
+
+
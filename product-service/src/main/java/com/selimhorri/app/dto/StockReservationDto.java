@@ -0,0 +1,44 @@
+package com.selimhorri.app.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class StockReservationDto implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@NotBlank(message = "Reservation id must not be blank")
+	@Size(max = 64, message = "Reservation id must be at most 64 characters")
+	private String reservationId;
+	
+	@Builder.Default
+	private Boolean allOrNothing = Boolean.TRUE;
+	
+	@NotEmpty(message = "Reservation lines must not be empty")
+	private List<@Valid StockLineDto> lines;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,10 @@
+package com.selimhorri.app.event;
+
+import lombok.Value;
+
+@Value
+public class CategoryTreeChangedEvent {
+	
+	String reason;
+	
+}
@@ -0,0 +1,40 @@
+package com.selimhorri.app.event;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.dto.CacheInvalidationEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@ConditionalOnProperty(prefix = "app.cache-events", name = "transport", havingValue = "local")
+@Slf4j
+@RequiredArgsConstructor
+public class LocalCacheInvalidationTransport implements CacheInvalidationTransport {
+	
+	private final ApplicationEventPublisher applicationEventPublisher;
+	
+	@Override
+	public void publish(final List<CacheInvalidationEvent> events) {
+		log.info("*** Void, transport; publish cache invalidation events locally *");
+		events.forEach(this.applicationEventPublisher::publishEvent);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,60 @@
+package com.selimhorri.app.event;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import javax.transaction.Transactional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.config.event.CacheEventProperties;
+import com.selimhorri.app.domain.OutboxEvent;
+import com.selimhorri.app.repository.OutboxEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Short transactions around the outbox rows so that the poller never holds 
+ * a connection or a row lock while it talks to the subscribers.
+ */
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class OutboxEventClaimer {
+	
+	private final OutboxEventRepository outboxEventRepository;
+	private final CacheEventProperties cacheEventProperties;
+	
+	public List<OutboxEvent> claim() {
+		final Instant now = Instant.now();
+		final List<OutboxEvent> claimed = this.outboxEventRepository
+				.findClaimable(now, PageRequest.of(0, this.cacheEventProperties.getBatchSize()));
+		final Instant claimedUntil = now.plus(this.cacheEventProperties.getClaimLease());
+		claimed.forEach(outboxEvent -> outboxEvent.setClaimedUntil(claimedUntil));
+		return claimed;
+	}
+	
+	public int markPublished(final Collection<Integer> outboxEventIds) {
+		return this.outboxEventRepository.markPublished(outboxEventIds, Instant.now());
+	}
+	
+	public int purge() {
+		return this.outboxEventRepository
+				.deletePublishedBefore(Instant.now().minus(this.cacheEventProperties.getRetention()));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
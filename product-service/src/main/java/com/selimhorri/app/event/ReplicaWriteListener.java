@@ -0,0 +1,42 @@
+package com.selimhorri.app.event;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.CacheInvalidationEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The search index and the category tree snapshot are rebuilt from local write events only; 
+ * this replays the outbox events of sibling replicas as those local events. 
+ * It runs after {@link SecondLevelCacheInvalidationListener} so the rebuild reads fresh rows.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ReplicaWriteListener {
+	
+	private final ApplicationEventPublisher applicationEventPublisher;
+	
+	@EventListener
+	@Order(Ordered.LOWEST_PRECEDENCE)
+	public void onCacheInvalidation(final CacheInvalidationEvent event) {
+		if (AppConstant.PRODUCT_CACHE.equals(event.getCacheName())) {
+			log.info("*** Void, listener; replay product {} write for local read models *", event.getKey());
+			this.applicationEventPublisher.publishEvent(new ProductChangedEvent(event.getKey()));
+		}
+		else if (AppConstant.CATEGORY_CACHE.equals(event.getCacheName())) {
+			log.info("*** Void, listener; replay category {} write for local read models *", event.getKey());
+			this.applicationEventPublisher.publishEvent(new CategoryTreeChangedEvent("category changed on a replica"));
+		}
+	}
+	
+	
+	
+}
@@ -0,0 +1,51 @@
+package com.selimhorri.app.event;
+
+import java.util.Map;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.CacheInvalidationEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The second-level cache is local to each JVM: product-service subscribes its own instances to 
+ * the outbox so that a write on one replica evicts the entity and the cached query results on the others.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SecondLevelCacheInvalidationListener {
+	
+	private static final Map<String, Class<?>> CACHED_ENTITIES = Map.of(
+			AppConstant.PRODUCT_CACHE, Product.class, 
+			AppConstant.CATEGORY_CACHE, Category.class);
+	
+	private final EntityManagerFactory entityManagerFactory;
+	
+	@EventListener
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	public void onCacheInvalidation(final CacheInvalidationEvent event) {
+		final Class<?> entityClass = CACHED_ENTITIES.get(event.getCacheName());
+		if (entityClass == null) {
+			return;
+		}
+		log.info("*** Void, listener; evict second-level {} entry {} *", event.getCacheName(), event.getKey());
+		final Cache cache = this.entityManagerFactory.getCache();
+		cache.evict(entityClass, event.getKey());
+		cache.unwrap(org.hibernate.Cache.class).evictDefaultQueryRegion();
+	}
+	
+	
+	
+}
@@ -0,0 +1,12 @@
+package com.selimhorri.app.event;
+
+import java.util.Set;
+
+import lombok.Value;
+
+@Value
+public class StockChangedEvent {
+	
+	Set<Integer> productIds;
+	
+}
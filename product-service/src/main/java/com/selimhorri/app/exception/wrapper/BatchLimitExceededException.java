@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class BatchLimitExceededException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public BatchLimitExceededException() {
+		super();
+	}
+	
+	public BatchLimitExceededException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public BatchLimitExceededException(String message) {
+		super(message);
+	}
+	
+	public BatchLimitExceededException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
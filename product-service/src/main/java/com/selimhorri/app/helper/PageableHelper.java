@@ -0,0 +1,41 @@
+package com.selimhorri.app.helper;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.context.request.WebRequest;
+
+import com.selimhorri.app.exception.wrapper.InvalidPageRequestException;
+
+/**
+ * Paging rules shared by the list endpoints that predate pagination.
+ */
+public interface PageableHelper {
+	
+	public static final String PAGE_PARAMETER = "page";
+	public static final String SIZE_PARAMETER = "size";
+	public static final String SORT_PARAMETER = "sort";
+	
+	/**
+	 * Existing callers (proxy-client, the frontend) send none of page, size or sort
+	 * and expect the whole collection, so only those parameters opt into paging.
+	 */
+	public static Pageable unpagedUnlessRequested(final Pageable pageable, final WebRequest request) {
+		if (request.getParameter(PAGE_PARAMETER) == null 
+				&& request.getParameter(SIZE_PARAMETER) == null 
+				&& request.getParameter(SORT_PARAMETER) == null) {
+			return Pageable.unpaged();
+		}
+		return pageable;
+	}
+	
+	/**
+	 * Keyset pages are always ordered by the id the cursor points at, so an explicit
+	 * sort cannot be honoured and is rejected instead of being silently replaced.
+	 */
+	public static Pageable cursorPage(final Pageable pageable, final WebRequest request) {
+		if (request.getParameter(SORT_PARAMETER) != null) {
+			throw new InvalidPageRequestException("Parameter 'sort' cannot be combined with cursor 'after'");
+		}
+		return pageable;
+	}
+	
+}
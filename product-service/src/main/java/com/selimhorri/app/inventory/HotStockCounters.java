@@ -0,0 +1,97 @@
+package com.selimhorri.app.inventory;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.config.inventory.InventoryProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Counters are replaced, drained and given back to under the map's per-key compute, so a deduction 
+ * is always either in a live counter or in {@code unflushed} until the flush that wrote it is confirmed. 
+ * New counters start from the DB quantity minus whatever is still unflushed for that product.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotStockCounters {
+	
+	private final InventoryProperties inventoryProperties;
+	private final ConcurrentMap<Integer, StripedStockCounter> counters = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Integer, Integer> unflushed = new ConcurrentHashMap<>();
+	
+	public boolean isHot(final Integer productId) {
+		return this.inventoryProperties.getHotProductIds().contains(productId);
+	}
+	
+	public Optional<StripedStockCounter> find(final Integer productId) {
+		return Optional.ofNullable(this.counters.get(productId));
+	}
+	
+	public Optional<StripedStockCounter> load(final Integer productId, final Supplier<Optional<Integer>> quantityLoader) {
+		final StripedStockCounter counter = this.counters.get(productId);
+		if (counter != null) {
+			return Optional.of(counter);
+		}
+		return Optional.ofNullable(this.counters.computeIfAbsent(productId, id -> quantityLoader.get()
+				.map(quantity -> new StripedStockCounter(this.inventoryProperties.getStripes(), 
+						quantity - this.unflushed.getOrDefault(id, 0)))
+				.orElse(null)));
+	}
+	
+	public void give(final Integer productId, final int quantity) {
+		this.counters.compute(productId, (id, counter) -> {
+			if (counter != null) {
+				counter.give(quantity);
+			}
+			else {
+				this.addUnflushed(id, -quantity);
+			}
+			return counter;
+		});
+	}
+	
+	public void retire(final Integer productId) {
+		this.counters.computeIfPresent(productId, (id, counter) -> {
+			this.addUnflushed(id, counter.retire());
+			return null;
+		});
+	}
+	
+	public Map<Integer, Integer> drainPending() {
+		this.counters.keySet().forEach(productId -> this.counters.computeIfPresent(productId, (id, counter) -> {
+			this.addUnflushed(id, counter.drainPending());
+			return counter;
+		}));
+		return Map.copyOf(this.unflushed);
+	}
+	
+	public void markFlushed(final Map<Integer, Integer> flushed) {
+		flushed.forEach((productId, quantity) -> this.addUnflushed(productId, -quantity));
+	}
+	
+	private void addUnflushed(final Integer productId, final int quantity) {
+		if (quantity != 0) {
+			this.unflushed.compute(productId, (id, current) -> {
+				final int total = (current == null ? 0 : current) + quantity;
+				return total == 0 ? null : total;
+			});
+		}
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
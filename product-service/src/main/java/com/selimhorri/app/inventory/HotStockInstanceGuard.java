@@ -0,0 +1,47 @@
+package com.selimhorri.app.inventory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.config.inventory.InventoryProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hot counters live in one JVM, so they only hold stock correctly while a single instance 
+ * serves the hot products. Instances register after startup, so this keeps checking 
+ * the registry instead of only looking once at boot.
+ */
+@Component
+@Slf4j
+public class HotStockInstanceGuard {
+	
+	private final InventoryProperties inventoryProperties;
+	private final DiscoveryClient discoveryClient;
+	private final String serviceId;
+	
+	public HotStockInstanceGuard(final InventoryProperties inventoryProperties, final DiscoveryClient discoveryClient, 
+			@Value("${spring.application.name}") final String serviceId) {
+		this.inventoryProperties = inventoryProperties;
+		this.discoveryClient = discoveryClient;
+		this.serviceId = serviceId;
+	}
+	
+	@Scheduled(fixedDelayString = "${app.inventory.instance-check-interval:60000}")
+	public boolean checkSingleInstance() {
+		if (this.inventoryProperties.getHotProductIds().isEmpty()) {
+			return true;
+		}
+		final int instances = this.discoveryClient.getInstances(this.serviceId).size();
+		if (instances > 1) {
+			log.error("*** Boolean, guard; hot stock counters for {} are enabled on {} instances of {}, "
+					+ "stock can be oversold: run hot products on a single instance or clear app.inventory.hot-product-ids *", 
+					this.inventoryProperties.getHotProductIds(), instances, this.serviceId);
+			return false;
+		}
+		return true;
+	}
+	
+}
@@ -0,0 +1,72 @@
+package com.selimhorri.app.inventory;
+
+import java.util.Map;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.selimhorri.app.event.ProductChangedEvent;
+import com.selimhorri.app.service.InventoryService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class InventoryScheduler {
+	
+	private final HotStockCounters hotStockCounters;
+	private final InventoryService inventoryService;
+	
+	@Scheduled(fixedDelayString = "${app.inventory.flush-interval:1000}")
+	@PreDestroy
+	public synchronized void flush() {
+		final Map<Integer, Integer> pending = this.hotStockCounters.drainPending();
+		if (pending.isEmpty()) {
+			return;
+		}
+		
+		try {
+			final Map<Integer, Integer> shortfalls = this.inventoryService.applyDeductions(pending);
+			this.hotStockCounters.markFlushed(pending);
+			log.info("*** Void, scheduler; flushed hot stock counters for {} products *", pending.size());
+			if (!shortfalls.isEmpty()) {
+				// reload these counters from the drained rows so they stop selling stock that is gone
+				log.error("*** Void, scheduler; hot stock oversold, drained to zero instead of deducting {} *", shortfalls);
+				shortfalls.keySet().forEach(this.hotStockCounters::retire);
+			}
+		}
+		catch (RuntimeException e) {
+			log.warn("*** Void, scheduler; flushing hot stock counters failed, retrying on next flush: {} *", e.getMessage());
+		}
+	}
+	
+	@Scheduled(fixedDelayString = "${app.inventory.expiry-interval:60000}")
+	public void releaseExpired() {
+		final int released = this.inventoryService.releaseExpired();
+		if (released > 0) {
+			log.info("*** Void, scheduler; released {} expired stock reservations *", released);
+		}
+	}
+	
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(final ProductChangedEvent event) {
+		this.hotStockCounters.retire(event.getProductId());
+		this.flush();
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,115 @@
+package com.selimhorri.app.inventory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stock spread over independently updated stripes. Once retired, takes are refused and the pending 
+ * deduction is final, so the retiring thread can flush it without racing late writers.
+ */
+public class StripedStockCounter {
+	
+	private final AtomicInteger[] stripes;
+	private final AtomicInteger pending = new AtomicInteger();
+	private final LongAdder writers = new LongAdder();
+	private volatile boolean retired;
+	
+	public StripedStockCounter(final int stripeCount, final int available) {
+		this.stripes = new AtomicInteger[Math.max(1, stripeCount)];
+		final int share = Math.max(0, available) / this.stripes.length;
+		final int remainder = Math.max(0, available) % this.stripes.length;
+		for (int i = 0; i < this.stripes.length; i++) {
+			this.stripes[i] = new AtomicInteger(share + (i < remainder ? 1 : 0));
+		}
+	}
+	
+	public boolean tryTake(final int quantity) {
+		this.writers.increment();
+		try {
+			if (this.retired) {
+				return false;
+			}
+			return this.take(quantity);
+		}
+		finally {
+			this.writers.decrement();
+		}
+	}
+	
+	public void give(final int quantity) {
+		this.stripes[this.home()].addAndGet(quantity);
+		this.pending.addAndGet(-quantity);
+	}
+	
+	public int available() {
+		int available = 0;
+		for (final AtomicInteger stripe : this.stripes) {
+			available += stripe.get();
+		}
+		return available;
+	}
+	
+	public int drainPending() {
+		return this.pending.getAndSet(0);
+	}
+	
+	public boolean isRetired() {
+		return this.retired;
+	}
+	
+	public int retire() {
+		this.retired = true;
+		while (this.writers.sum() != 0) {
+			Thread.onSpinWait();
+		}
+		return this.drainPending();
+	}
+	
+	private boolean take(final int quantity) {
+		final int home = this.home();
+		final int[] taken = new int[this.stripes.length];
+		int remaining = quantity;
+		for (int i = 0; i < this.stripes.length && remaining > 0; i++) {
+			final int index = (home + i) % this.stripes.length;
+			taken[index] = take(this.stripes[index], remaining);
+			remaining -= taken[index];
+		}
+		
+		if (remaining > 0) {
+			for (int i = 0; i < taken.length; i++) {
+				this.stripes[i].addAndGet(taken[i]);
+			}
+			return false;
+		}
+		this.pending.addAndGet(quantity);
+		return true;
+	}
+	
+	private int home() {
+		return (int) (Thread.currentThread().getId() % this.stripes.length);
+	}
+	
+	private static int take(final AtomicInteger stripe, final int wanted) {
+		while (true) {
+			final int current = stripe.get();
+			final int taken = Math.min(current, wanted);
+			if (taken <= 0) {
+				return 0;
+			}
+			if (stripe.compareAndSet(current, current - taken)) {
+				return taken;
+			}
+		}
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
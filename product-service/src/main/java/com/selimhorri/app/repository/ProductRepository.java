@@ -1,11 +1,40 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.repository.projection.ProductCategoryRow;
 
 public interface ProductRepository extends JpaRepository<Product, Integer> {
 	
+	@Override
+	@EntityGraph(attributePaths = {"category"})
+	List<Product> findAll();
+	
+	@Override
+	@EntityGraph(attributePaths = {"category"})
+	Page<Product> findAll(final Pageable pageable);
+	
+	@Override
+	@EntityGraph(attributePaths = {"category"})
+	List<Product> findAllById(final Iterable<Integer> productIds);
+	
+	@Override
+	@EntityGraph(attributePaths = {"category"})
+	Optional<Product> findById(final Integer productId);
+	
+	@EntityGraph(attributePaths = {"category"})
+	Slice<Product> findByProductIdGreaterThan(final Integer productId, final Pageable pageable);
 	
+	@Query("SELECT p.productId AS productId, c.categoryId AS categoryId FROM Product p JOIN p.category c")
+	List<ProductCategoryRow> findAllCategoryRows();
 	
 }
@@ -0,0 +1,139 @@
+package com.selimhorri.app.repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.StockLineDto;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductStockRepository {
+	
+	private static final String RESERVE_SQL = "UPDATE products SET quantity = quantity - ?, updated_at = LOCALTIMESTAMP "
+			+ "WHERE product_id = ? AND quantity >= ?";
+	private static final String ADJUST_SQL = "UPDATE products SET quantity = quantity + ?, updated_at = LOCALTIMESTAMP "
+			+ "WHERE product_id = ?";
+	private static final String DRAIN_SQL = "UPDATE products SET quantity = 0, updated_at = LOCALTIMESTAMP "
+			+ "WHERE product_id = ? AND quantity < ?";
+	private static final String QUANTITY_SQL = "SELECT quantity FROM products WHERE product_id = ?";
+	private static final String QUANTITIES_SQL = "SELECT product_id, quantity FROM products WHERE product_id IN (%s)";
+	
+	private final JdbcTemplate jdbcTemplate;
+	private final EntityManagerFactory entityManagerFactory;
+	
+	public int[] reserveAll(final List<StockLineDto> stockLineDtos) {
+		if (stockLineDtos.isEmpty()) {
+			return new int[0];
+		}
+		this.evictAfterCompletion(stockLineDtos.stream()
+				.map(StockLineDto::getProductId)
+				.collect(Collectors.toUnmodifiableSet()));
+		return this.jdbcTemplate.batchUpdate(RESERVE_SQL, stockLineDtos.stream()
+				.map(line -> new Object[] { line.getQuantity(), line.getProductId(), line.getQuantity() })
+				.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	public int[] releaseAll(final List<StockLineDto> stockLineDtos) {
+		if (stockLineDtos.isEmpty()) {
+			return new int[0];
+		}
+		this.evictAfterCompletion(stockLineDtos.stream()
+				.map(StockLineDto::getProductId)
+				.collect(Collectors.toUnmodifiableSet()));
+		return this.jdbcTemplate.batchUpdate(ADJUST_SQL, stockLineDtos.stream()
+				.map(line -> new Object[] { line.getQuantity(), line.getProductId() })
+				.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	/**
+	 * Applies deductions only where the stock still covers them. A product that no longer 
+	 * has enough is drained to zero instead of going negative, and its deduction is returned 
+	 * as a shortfall: stock was promised twice, e.g. by a second instance counting the same hot product.
+	 */
+	public Map<Integer, Integer> deductAll(final Map<Integer, Integer> deductions) {
+		if (deductions.isEmpty()) {
+			return Map.of();
+		}
+		this.evictAfterCompletion(deductions.keySet());
+		final List<Map.Entry<Integer, Integer>> entries = List.copyOf(deductions.entrySet());
+		final int[] updated = this.jdbcTemplate.batchUpdate(RESERVE_SQL, entries.stream()
+				.map(entry -> new Object[] { entry.getValue(), entry.getKey(), entry.getValue() })
+				.collect(Collectors.toUnmodifiableList()));
+		
+		final Map<Integer, Integer> shortfalls = new HashMap<>();
+		for (int i = 0; i < entries.size(); i++) {
+			if (updated[i] == 0) {
+				shortfalls.put(entries.get(i).getKey(), entries.get(i).getValue());
+			}
+		}
+		if (!shortfalls.isEmpty()) {
+			this.jdbcTemplate.batchUpdate(DRAIN_SQL, shortfalls.entrySet().stream()
+					.map(entry -> new Object[] { entry.getKey(), entry.getValue() })
+					.collect(Collectors.toUnmodifiableList()));
+		}
+		return Map.copyOf(shortfalls);
+	}
+	
+	public Optional<Integer> findQuantity(final Integer productId) {
+		return this.jdbcTemplate.queryForList(QUANTITY_SQL, Integer.class, productId)
+				.stream()
+					.findFirst()
+					.map(quantity -> quantity == null ? 0 : quantity);
+	}
+	
+	public Map<Integer, Integer> findQuantities(final Collection<Integer> productIds) {
+		if (productIds.isEmpty()) {
+			return Map.of();
+		}
+		final Map<Integer, Integer> quantities = new HashMap<>();
+		this.jdbcTemplate.query(String.format(QUANTITIES_SQL, String.join(",", Collections.nCopies(productIds.size(), "?"))), 
+				resultSet -> {
+					quantities.put(resultSet.getInt("product_id"), resultSet.getInt("quantity"));
+				}, 
+				productIds.toArray());
+		return quantities;
+	}
+	
+	private void evictAfterCompletion(final Collection<Integer> productIds) {
+		final Runnable eviction = () -> productIds
+				.forEach(productId -> this.entityManagerFactory.getCache().evict(Product.class, productId));
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			eviction.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(final int status) {
+				eviction.run();
+			}
+		});
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,34 @@
+package com.selimhorri.app.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import javax.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.selimhorri.app.domain.ReservationStatus;
+import com.selimhorri.app.domain.StockReservation;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Integer> {
+	
+	List<StockReservation> findByReservationIdOrderByStockReservationIdAsc(final String reservationId);
+	
+	/**
+	 * Locks the lines of a reservation so that concurrent commits and releases (client retries, the TTL sweep) 
+	 * run one after the other and each sees the status left by the previous one.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT r FROM StockReservation r WHERE r.reservationId = :reservationId ORDER BY r.stockReservationId ASC")
+	List<StockReservation> lockByReservationId(@Param("reservationId") final String reservationId);
+	
+	@Query("SELECT DISTINCT r.reservationId FROM StockReservation r "
+			+ "WHERE r.reservationStatus = :reservationStatus AND r.createdAt < :createdBefore")
+	List<String> findReservationIdsCreatedBefore(
+			@Param("reservationStatus") final ReservationStatus reservationStatus, 
+			@Param("createdBefore") final Instant createdBefore);
+	
+}
@@ -0,0 +1,10 @@
+package com.selimhorri.app.repository.projection;
+
+public interface CategoryTreeRow {
+	
+	Integer getCategoryId();
+	Integer getParentCategoryId();
+	String getCategoryTitle();
+	String getImageUrl();
+	
+}
@@ -0,0 +1,8 @@
+package com.selimhorri.app.repository.projection;
+
+public interface ProductCategoryRow {
+	
+	Integer getProductId();
+	Integer getCategoryId();
+	
+}
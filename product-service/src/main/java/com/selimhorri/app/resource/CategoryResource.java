@@ -4,6 +4,8 @@ import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,11 +14,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.PageableHelper;
 import com.selimhorri.app.service.CategoryService;
+import com.selimhorri.app.service.CategoryTreeService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,11 +36,18 @@ import lombok.extern.slf4j.Slf4j;
 public class CategoryResource {
 	
 	private final CategoryService categoryService;
+	private final CategoryTreeService categoryTreeService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findAll(
+			@PageableDefault(size = AppConstant.DEFAULT_PAGE_SIZE, sort = "categoryId") final Pageable pageable, 
+			@RequestParam(name = "after", required = false) final Integer after, 
+			final WebRequest request) {
 		log.info("*** CategoryDto List, controller; fetch all categories *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.categoryService.findAll()));
+		if (after != null) {
+			return ResponseEntity.ok(DtoCollectionResponse.of(this.categoryService.findAllAfter(after, PageableHelper.cursorPage(pageable, request)), CategoryDto::getCategoryId));
+		}
+		return ResponseEntity.ok(DtoCollectionResponse.of(this.categoryService.findAll(PageableHelper.unpagedUnlessRequested(pageable, request))));
 	}
 	
 	@GetMapping("/{categoryId}")
@@ -44,6 +59,35 @@ public class CategoryResource {
 		return ResponseEntity.ok(this.categoryService.findById(Integer.parseInt(categoryId)));
 	}
 	
+	@GetMapping("/{categoryId}/descendants")
+	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findDescendants(
+			@PathVariable("categoryId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String categoryId) {
+		log.info("*** CategoryDto List, resource; fetch category descendants *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.categoryTreeService.findDescendants(Integer.parseInt(categoryId))));
+	}
+	
+	@GetMapping("/{categoryId}/path")
+	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findPathToRoot(
+			@PathVariable("categoryId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String categoryId) {
+		log.info("*** CategoryDto List, resource; fetch category path to root *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.categoryTreeService.findPathToRoot(Integer.parseInt(categoryId))));
+	}
+	
+	@GetMapping("/{categoryId}/products")
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> findProductsInSubtree(
+			@PathVariable("categoryId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String categoryId, 
+			@PageableDefault(size = AppConstant.DEFAULT_PAGE_SIZE) final Pageable pageable) {
+		log.info("*** ProductDto List, resource; fetch products under category subtree *");
+		return ResponseEntity.ok(DtoCollectionResponse.of(this.categoryTreeService
+				.findProductsInSubtree(Integer.parseInt(categoryId), pageable)));
+	}
+	
 	@PostMapping
 	public ResponseEntity<CategoryDto> save(
 			@RequestBody 
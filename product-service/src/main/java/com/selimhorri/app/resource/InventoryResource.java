@@ -0,0 +1,74 @@
+package com.selimhorri.app.resource;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.dto.StockReservationDto;
+import com.selimhorri.app.dto.StockReservationResultDto;
+import com.selimhorri.app.service.InventoryService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/inventory/reservations")
+@Slf4j
+@RequiredArgsConstructor
+public class InventoryResource {
+	
+	private final InventoryService inventoryService;
+	
+	@PostMapping
+	public ResponseEntity<StockReservationResultDto> reserve(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final StockReservationDto stockReservationDto) {
+		log.info("*** StockReservationResultDto, resource; reserve stock *");
+		try {
+			return ResponseEntity.ok(this.inventoryService.reserve(stockReservationDto));
+		}
+		catch (DataIntegrityViolationException e) {
+			log.info("*** StockReservationResultDto, resource; reservation {} already recorded by a concurrent retry *", 
+					stockReservationDto.getReservationId());
+			return ResponseEntity.ok(this.inventoryService.findById(stockReservationDto.getReservationId()));
+		}
+	}
+	
+	@PostMapping("/{reservationId}/commit")
+	public ResponseEntity<StockReservationResultDto> commit(
+			@PathVariable("reservationId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String reservationId) {
+		log.info("*** StockReservationResultDto, resource; commit stock reservation *");
+		return ResponseEntity.ok(this.inventoryService.commit(reservationId));
+	}
+	
+	@PostMapping("/{reservationId}/release")
+	public ResponseEntity<StockReservationResultDto> release(
+			@PathVariable("reservationId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String reservationId) {
+		log.info("*** StockReservationResultDto, resource; release stock reservation *");
+		return ResponseEntity.ok(this.inventoryService.release(reservationId));
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
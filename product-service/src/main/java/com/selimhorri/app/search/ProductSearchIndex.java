@@ -0,0 +1,252 @@
+package com.selimhorri.app.search;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
+
+import lombok.Value;
+import lombok.With;
+
+@Component
+public class ProductSearchIndex {
+	
+	private static final double SKU_WEIGHT = 5.0;
+	private static final double TITLE_WEIGHT = 3.0;
+	private static final double CATEGORY_WEIGHT = 1.0;
+	private static final double PREFIX_FACTOR = 0.5;
+	
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<Integer, Document> documents = new HashMap<>();
+	private final NavigableMap<String, Map<Integer, Double>> postings = new TreeMap<>();
+	
+	public void replaceAll(final Collection<ProductDto> productDtos) {
+		this.lock.writeLock().lock();
+		try {
+			this.documents.clear();
+			this.postings.clear();
+			productDtos.forEach(this::add);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	public void index(final ProductDto productDto) {
+		this.lock.writeLock().lock();
+		try {
+			this.delete(productDto.getProductId());
+			this.add(productDto);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	public void updateQuantity(final Integer productId, final Integer quantity) {
+		this.lock.writeLock().lock();
+		try {
+			this.documents.computeIfPresent(productId, (id, document) -> document.withQuantity(quantity));
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	public void remove(final Integer productId) {
+		this.lock.writeLock().lock();
+		try {
+			this.delete(productId);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	public int size() {
+		this.lock.readLock().lock();
+		try {
+			return this.documents.size();
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Ranks matching documents but keeps only the best {@code offset + limit} ids in a bounded heap, 
+	 * so that DTOs are built and sorted for the requested page alone; the total counts every match.
+	 */
+	public ProductSearchResult search(final String query, final Integer categoryId, final Double minPrice, final Double maxPrice, 
+			final long offset, final int limit) {
+		final List<String> terms = tokenize(query).distinct().collect(Collectors.toUnmodifiableList());
+		final Predicate<Document> filter = document -> (categoryId == null || categoryId.equals(document.getCategoryId()))
+				&& (minPrice == null || (document.getPriceUnit() != null && document.getPriceUnit() >= minPrice))
+				&& (maxPrice == null || (document.getPriceUnit() != null && document.getPriceUnit() <= maxPrice));
+		final int topK = (int) Math.min(Integer.MAX_VALUE, offset + limit);
+		
+		this.lock.readLock().lock();
+		try {
+			final Map<Integer, Double> scores = terms.isEmpty() ? Map.of() : this.score(terms);
+			final Collection<Integer> candidates = terms.isEmpty() ? this.documents.keySet() : scores.keySet();
+			final Comparator<Integer> ranking = Comparator.<Integer>comparingDouble(productId -> scores.getOrDefault(productId, 0.0))
+					.reversed()
+					.thenComparing(Comparator.naturalOrder());
+			final PriorityQueue<Integer> top = new PriorityQueue<>(ranking.reversed());
+			long total = 0;
+			for (final Integer productId : candidates) {
+				if (!filter.test(this.documents.get(productId))) {
+					continue;
+				}
+				total++;
+				if (top.size() < topK) {
+					top.offer(productId);
+				}
+				else if (topK > 0 && ranking.compare(productId, top.peek()) < 0) {
+					top.poll();
+					top.offer(productId);
+				}
+			}
+			
+			return new ProductSearchResult(top.stream()
+					.sorted(ranking)
+					.skip(offset)
+					.map(productId -> this.documents.get(productId).toDto())
+					.collect(Collectors.toUnmodifiableList()), total);
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+	
+	private Map<Integer, Double> score(final List<String> terms) {
+		Map<Integer, Double> scores = null;
+		for (final String term : terms) {
+			final Map<Integer, Double> termScores = new HashMap<>();
+			this.postings.subMap(term, true, term + Character.MAX_VALUE, false).forEach((indexed, weights) -> {
+				final double factor = indexed.equals(term) ? 1.0 : PREFIX_FACTOR;
+				weights.forEach((productId, weight) -> termScores.merge(productId, weight * factor, Math::max));
+			});
+			
+			if (scores == null) {
+				scores = termScores;
+			}
+			else {
+				scores.keySet().retainAll(termScores.keySet());
+				scores.replaceAll((productId, score) -> score + termScores.get(productId));
+			}
+			
+			if (scores.isEmpty()) {
+				break;
+			}
+		}
+		return scores;
+	}
+	
+	private void add(final ProductDto productDto) {
+		final Document document = Document.of(productDto);
+		this.documents.put(document.getProductId(), document);
+		tokenize(document.getSku()).forEach(term -> this.post(term, document.getProductId(), SKU_WEIGHT));
+		tokenize(document.getProductTitle()).forEach(term -> this.post(term, document.getProductId(), TITLE_WEIGHT));
+		tokenize(document.getCategoryTitle()).forEach(term -> this.post(term, document.getProductId(), CATEGORY_WEIGHT));
+	}
+	
+	private void post(final String term, final Integer productId, final double weight) {
+		this.postings.computeIfAbsent(term, key -> new HashMap<>())
+				.merge(productId, weight, Double::sum);
+	}
+	
+	private void delete(final Integer productId) {
+		final Document document = this.documents.remove(productId);
+		if (document == null) {
+			return;
+		}
+		
+		Stream.of(document.getSku(), document.getProductTitle(), document.getCategoryTitle())
+				.flatMap(ProductSearchIndex::tokenize)
+				.collect(Collectors.toSet())
+				.forEach(term -> {
+					final Map<Integer, Double> weights = this.postings.get(term);
+					weights.remove(productId);
+					if (weights.isEmpty()) {
+						this.postings.remove(term);
+					}
+				});
+	}
+	
+	private static Stream<String> tokenize(final String text) {
+		if (text == null || text.isBlank()) {
+			return Stream.empty();
+		}
+		return Stream.of(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+				.filter(term -> !term.isEmpty());
+	}
+	
+	@Value
+	private static class Document {
+		
+		Integer productId;
+		String productTitle;
+		String imageUrl;
+		String sku;
+		Double priceUnit;
+		@With
+		Integer quantity;
+		Integer categoryId;
+		String categoryTitle;
+		String categoryImageUrl;
+		
+		static Document of(final ProductDto productDto) {
+			final CategoryDto categoryDto = productDto.getCategoryDto() == null ? new CategoryDto() : productDto.getCategoryDto();
+			return new Document(productDto.getProductId(), productDto.getProductTitle(), productDto.getImageUrl(), 
+					productDto.getSku(), productDto.getPriceUnit(), productDto.getQuantity(), 
+					categoryDto.getCategoryId(), categoryDto.getCategoryTitle(), categoryDto.getImageUrl());
+		}
+		
+		ProductDto toDto() {
+			return ProductDto.builder()
+					.productId(this.productId)
+					.productTitle(this.productTitle)
+					.imageUrl(this.imageUrl)
+					.sku(this.sku)
+					.priceUnit(this.priceUnit)
+					.quantity(this.quantity)
+					.categoryDto(
+							CategoryDto.builder()
+								.categoryId(this.categoryId)
+								.categoryTitle(this.categoryTitle)
+								.imageUrl(this.categoryImageUrl)
+								.build())
+					.build();
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
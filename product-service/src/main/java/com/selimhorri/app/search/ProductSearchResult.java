@@ -0,0 +1,15 @@
+package com.selimhorri.app.search;
+
+import java.util.List;
+
+import com.selimhorri.app.dto.ProductDto;
+
+import lombok.Value;
+
+@Value
+public class ProductSearchResult {
+	
+	List<ProductDto> products;
+	long total;
+	
+}
@@ -0,0 +1,18 @@
+package com.selimhorri.app.service;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
+
+public interface CategoryTreeService {
+	
+	List<CategoryDto> findDescendants(final Integer categoryId);
+	List<CategoryDto> findPathToRoot(final Integer categoryId);
+	Page<ProductDto> findProductsInSubtree(final Integer categoryId, final Pageable pageable);
+	void rebuild();
+	
+}
@@ -0,0 +1,17 @@
+package com.selimhorri.app.service;
+
+import java.util.Map;
+
+import com.selimhorri.app.dto.StockReservationDto;
+import com.selimhorri.app.dto.StockReservationResultDto;
+
+public interface InventoryService {
+	
+	StockReservationResultDto findById(final String reservationId);
+	StockReservationResultDto reserve(final StockReservationDto stockReservationDto);
+	StockReservationResultDto commit(final String reservationId);
+	StockReservationResultDto release(final String reservationId);
+	int releaseExpired();
+	Map<Integer, Integer> applyDeductions(final Map<Integer, Integer> deductions);
+	
+}
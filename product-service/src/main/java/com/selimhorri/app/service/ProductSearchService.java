@@ -0,0 +1,13 @@
+package com.selimhorri.app.service;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.selimhorri.app.dto.ProductDto;
+
+public interface ProductSearchService {
+	
+	Page<ProductDto> search(final String query, final Integer categoryId, final Double minPrice, final Double maxPrice, final Pageable pageable);
+	void reindex();
+	
+}
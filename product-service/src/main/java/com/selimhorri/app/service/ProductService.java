@@ -1,13 +1,21 @@
 package com.selimhorri.app.service;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
 import com.selimhorri.app.dto.ProductDto;
 
 public interface ProductService {
 	
 	List<ProductDto> findAll();
+	Page<ProductDto> findAll(final Pageable pageable);
+	Slice<ProductDto> findAllAfter(final Integer productId, final Pageable pageable);
 	ProductDto findById(final Integer productId);
+	List<ProductDto> findAllByIds(final Collection<Integer> productIds);
 	ProductDto save(final ProductDto productDto);
 	ProductDto update(final ProductDto productDto);
 	ProductDto update(final Integer productId, final ProductDto productDto);
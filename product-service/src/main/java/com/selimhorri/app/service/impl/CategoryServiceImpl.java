@@ -1,16 +1,27 @@
 package com.selimhorri.app.service.impl;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OutboxEvent;
 import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.event.CategoryTreeChangedEvent;
 import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
 import com.selimhorri.app.helper.CategoryMappingHelper;
 import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.OutboxEventRepository;
 import com.selimhorri.app.service.CategoryService;
 
 import lombok.RequiredArgsConstructor;
@@ -23,6 +34,8 @@ import lombok.extern.slf4j.Slf4j;
 public class CategoryServiceImpl implements CategoryService {
 	
 	private final CategoryRepository categoryRepository;
+	private final OutboxEventRepository outboxEventRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
 	
 	@Override
 	public List<CategoryDto> findAll() {
@@ -34,6 +47,21 @@ public class CategoryServiceImpl implements CategoryService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public Page<CategoryDto> findAll(final Pageable pageable) {
+		log.info("*** CategoryDto Page, service; fetch page of categorys *");
+		return this.categoryRepository.findAll(pageable)
+				.map(CategoryMappingHelper::map);
+	}
+	
+	@Override
+	public Slice<CategoryDto> findAllAfter(final Integer categoryId, final Pageable pageable) {
+		log.info("*** CategoryDto Slice, service; fetch categorys after cursor *");
+		return this.categoryRepository.findByCategoryIdGreaterThan(categoryId, 
+				PageRequest.of(0, pageable.getPageSize(), Sort.by("categoryId")))
+				.map(CategoryMappingHelper::map);
+	}
+	
 	@Override
 	public CategoryDto findById(final Integer categoryId) {
 		log.info("*** CategoryDto, service; fetch category by id *");
@@ -45,28 +73,47 @@ public class CategoryServiceImpl implements CategoryService {
 	@Override
 	public CategoryDto save(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; save category *");
-		return CategoryMappingHelper.map(this.categoryRepository
+		final CategoryDto saved = CategoryMappingHelper.map(this.categoryRepository
 				.save(CategoryMappingHelper.map(categoryDto)));
+		this.recordInvalidation(saved.getCategoryId());
+		this.applicationEventPublisher.publishEvent(new CategoryTreeChangedEvent("category saved"));
+		return saved;
 	}
 	
 	@Override
 	public CategoryDto update(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category *");
-		return CategoryMappingHelper.map(this.categoryRepository
+		final CategoryDto updated = CategoryMappingHelper.map(this.categoryRepository
 				.save(CategoryMappingHelper.map(categoryDto)));
+		this.recordInvalidation(updated.getCategoryId());
+		this.applicationEventPublisher.publishEvent(new CategoryTreeChangedEvent("category updated"));
+		return updated;
 	}
 	
 	@Override
 	public CategoryDto update(final Integer categoryId, final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category with categoryId *");
-		return CategoryMappingHelper.map(this.categoryRepository
+		final CategoryDto updated = CategoryMappingHelper.map(this.categoryRepository
 				.save(CategoryMappingHelper.map(this.findById(categoryId))));
+		this.recordInvalidation(categoryId);
+		this.applicationEventPublisher.publishEvent(new CategoryTreeChangedEvent("category updated"));
+		return updated;
 	}
 	
 	@Override
 	public void deleteById(final Integer categoryId) {
 		log.info("*** Void, service; delete category by id *");
 		this.categoryRepository.deleteById(categoryId);
+		this.recordInvalidation(categoryId);
+		this.applicationEventPublisher.publishEvent(new CategoryTreeChangedEvent("category deleted"));
+	}
+	
+	private void recordInvalidation(final Integer categoryId) {
+		this.outboxEventRepository.save(OutboxEvent.builder()
+				.cacheName(AppConstant.CATEGORY_CACHE)
+				.entityId(categoryId)
+				.createdAt(Instant.now())
+				.build());
 	}
 	
 	
@@ -0,0 +1,146 @@
+package com.selimhorri.app.service.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.event.CategoryTreeChangedEvent;
+import com.selimhorri.app.event.ProductChangedEvent;
+import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
+import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.CategoryTreeService;
+import com.selimhorri.app.tree.CategoryTree;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CategoryTreeServiceImpl implements CategoryTreeService {
+	
+	private final CategoryRepository categoryRepository;
+	private final ProductRepository productRepository;
+	private final AtomicReference<CategoryTree> snapshot = new AtomicReference<>();
+	private final AtomicBoolean stale = new AtomicBoolean();
+	
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		this.rebuild();
+	}
+	
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCategoryTreeChanged(final CategoryTreeChangedEvent event) {
+		log.info("*** Void, service; category tree changed: {} *", event.getReason());
+		this.rebuild();
+	}
+	
+	/**
+	 * Product writes only mark the snapshot stale; {@link #refreshIfStale()} folds a burst of 
+	 * them into one rebuild off the request thread.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(final ProductChangedEvent event) {
+		this.stale.set(true);
+	}
+	
+	@Scheduled(fixedDelayString = "${app.category-tree.refresh-interval:5000}")
+	public void refreshIfStale() {
+		if (!this.stale.get()) {
+			return;
+		}
+		try {
+			this.rebuild();
+		}
+		catch (RuntimeException e) {
+			this.stale.set(true);
+			log.warn("*** Void, service; category tree refresh failed, retrying on next tick: {} *", e.getMessage());
+		}
+	}
+	
+	@Override
+	public List<CategoryDto> findDescendants(final Integer categoryId) {
+		log.info("*** CategoryDto List, service; fetch category descendants from snapshot *");
+		return this.snapshotContaining(categoryId).descendants(categoryId);
+	}
+	
+	@Override
+	public List<CategoryDto> findPathToRoot(final Integer categoryId) {
+		log.info("*** CategoryDto List, service; fetch category path to root from snapshot *");
+		return this.snapshotContaining(categoryId).pathToRoot(categoryId);
+	}
+	
+	@Override
+	public Page<ProductDto> findProductsInSubtree(final Integer categoryId, final Pageable pageable) {
+		log.info("*** ProductDto Page, service; fetch products under category subtree *");
+		final List<Integer> productIds = this.snapshotContaining(categoryId).productIdsInSubtree(categoryId);
+		final int from = (int) Math.min(pageable.getOffset(), productIds.size());
+		final int to = Math.min(from + pageable.getPageSize(), productIds.size());
+		final List<Integer> pageIds = productIds.subList(from, to);
+		
+		final Map<Integer, Product> products = this.productRepository.findAllById(pageIds)
+				.stream()
+					.collect(Collectors.toMap(Product::getProductId, Function.identity()));
+		
+		return new PageImpl<>(pageIds.stream()
+				.map(products::get)
+				.filter(Objects::nonNull)
+				.map(ProductMappingHelper::map)
+				.collect(Collectors.toUnmodifiableList()), pageable, productIds.size());
+	}
+	
+	/**
+	 * Synchronized so that a rebuild which read its rows before a category commit cannot publish 
+	 * its older tree after the rebuild triggered by that commit.
+	 */
+	@Override
+	public synchronized void rebuild() {
+		this.stale.set(false);
+		final CategoryTree categoryTree = CategoryTree.of(this.categoryRepository.findAllTreeRows(), 
+				this.productRepository.findAllCategoryRows());
+		this.snapshot.set(categoryTree);
+		log.info("*** Void, service; category tree snapshot rebuilt with {} categories *", categoryTree.size());
+	}
+	
+	private CategoryTree snapshotContaining(final Integer categoryId) {
+		if (this.snapshot.get() == null) {
+			this.rebuild();
+		}
+		final CategoryTree categoryTree = this.snapshot.get();
+		if (!categoryTree.contains(categoryId)) {
+			throw new CategoryNotFoundException(String.format("Category with id: %d not found", categoryId));
+		}
+		return categoryTree;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,310 @@
+package com.selimhorri.app.service.impl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import javax.transaction.Transactional;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.selimhorri.app.config.inventory.InventoryProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OutboxEvent;
+import com.selimhorri.app.domain.ReservationStatus;
+import com.selimhorri.app.domain.StockReservation;
+import com.selimhorri.app.dto.StockLineDto;
+import com.selimhorri.app.dto.StockLineResultDto;
+import com.selimhorri.app.dto.StockLineStatus;
+import com.selimhorri.app.dto.StockReservationDto;
+import com.selimhorri.app.dto.StockReservationResultDto;
+import com.selimhorri.app.event.StockChangedEvent;
+import com.selimhorri.app.exception.wrapper.BatchLimitExceededException;
+import com.selimhorri.app.exception.wrapper.StockReservationNotFoundException;
+import com.selimhorri.app.inventory.HotStockCounters;
+import com.selimhorri.app.inventory.StripedStockCounter;
+import com.selimhorri.app.repository.OutboxEventRepository;
+import com.selimhorri.app.repository.ProductStockRepository;
+import com.selimhorri.app.repository.StockReservationRepository;
+import com.selimhorri.app.service.InventoryService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Transactional
+@Slf4j
+@RequiredArgsConstructor
+public class InventoryServiceImpl implements InventoryService {
+	
+	private final ProductStockRepository productStockRepository;
+	private final StockReservationRepository stockReservationRepository;
+	private final HotStockCounters hotStockCounters;
+	private final InventoryProperties inventoryProperties;
+	private final OutboxEventRepository outboxEventRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	
+	@Override
+	public StockReservationResultDto findById(final String reservationId) {
+		log.info("*** StockReservationResultDto, service; fetch stock reservation by id *");
+		return toResult(reservationId, this.findReservations(reservationId));
+	}
+	
+	@Override
+	public StockReservationResultDto reserve(final StockReservationDto stockReservationDto) {
+		log.info("*** StockReservationResultDto, service; reserve stock *");
+		final String reservationId = stockReservationDto.getReservationId();
+		final List<StockReservation> existing = this.stockReservationRepository
+				.findByReservationIdOrderByStockReservationIdAsc(reservationId);
+		if (!existing.isEmpty()) {
+			return toResult(reservationId, existing);
+		}
+		
+		final Map<Integer, Integer> requested = stockReservationDto.getLines().stream()
+				.collect(Collectors.toMap(StockLineDto::getProductId, StockLineDto::getQuantity, Integer::sum, LinkedHashMap::new));
+		if (requested.size() > AppConstant.BATCH_MAX_IDS) {
+			throw new BatchLimitExceededException(String
+					.format("Stock reservation accepts at most %d products", AppConstant.BATCH_MAX_IDS));
+		}
+		
+		final Map<Integer, StockLineStatus> statuses = new LinkedHashMap<>();
+		final List<StockLineDto> coldLines = new ArrayList<>();
+		final Map<Integer, Integer> hotTaken = new LinkedHashMap<>();
+		final AtomicBoolean kept = new AtomicBoolean();
+		this.giveBackUnlessKept(hotTaken, kept);
+		requested.forEach((productId, quantity) -> {
+			if (this.hotStockCounters.isHot(productId)) {
+				final StockLineStatus status = this.reserveHot(productId, quantity);
+				if (status == StockLineStatus.RESERVED) {
+					hotTaken.put(productId, quantity);
+				}
+				statuses.put(productId, status);
+			}
+			else {
+				statuses.put(productId, StockLineStatus.NOT_FOUND);
+				coldLines.add(new StockLineDto(productId, quantity));
+			}
+		});
+		
+		final int[] updateCounts = this.productStockRepository.reserveAll(coldLines);
+		for (int i = 0; i < updateCounts.length; i++) {
+			final Integer productId = coldLines.get(i).getProductId();
+			statuses.put(productId, updateCounts[i] > 0 ? StockLineStatus.RESERVED 
+					: this.productStockRepository.findQuantity(productId).isPresent() ? StockLineStatus.INSUFFICIENT_STOCK 
+					: StockLineStatus.NOT_FOUND);
+		}
+		
+		final boolean reserved = statuses.values().stream().allMatch(StockLineStatus.RESERVED::equals);
+		if (!reserved && !Boolean.FALSE.equals(stockReservationDto.getAllOrNothing())) {
+			this.rollBack(requested, statuses);
+			if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+				hotTaken.forEach(this.hotStockCounters::give);
+			}
+		}
+		else {
+			kept.set(true);
+			this.recordStockChange(coldLines.stream()
+					.map(StockLineDto::getProductId)
+					.filter(productId -> statuses.get(productId) == StockLineStatus.RESERVED)
+					.collect(Collectors.toUnmodifiableSet()));
+			final Instant now = Instant.now();
+			this.stockReservationRepository.saveAllAndFlush(statuses.entrySet().stream()
+					.filter(entry -> entry.getValue() == StockLineStatus.RESERVED)
+					.map(entry -> StockReservation.builder()
+							.reservationId(reservationId)
+							.productId(entry.getKey())
+							.quantity(requested.get(entry.getKey()))
+							.hot(this.hotStockCounters.isHot(entry.getKey()))
+							.reservationStatus(ReservationStatus.RESERVED)
+							.createdAt(now)
+							.build())
+					.collect(Collectors.toUnmodifiableList()));
+		}
+		
+		return StockReservationResultDto.builder()
+				.reservationId(reservationId)
+				.reserved(reserved)
+				.lines(statuses.entrySet().stream()
+						.map(entry -> new StockLineResultDto(entry.getKey(), requested.get(entry.getKey()), entry.getValue()))
+						.collect(Collectors.toUnmodifiableList()))
+				.build();
+	}
+	
+	@Override
+	public StockReservationResultDto commit(final String reservationId) {
+		log.info("*** StockReservationResultDto, service; commit stock reservation *");
+		final List<StockReservation> reservations = this.lockReservations(reservationId);
+		final Instant now = Instant.now();
+		reservations.stream()
+				.filter(reservation -> reservation.getReservationStatus() == ReservationStatus.RESERVED)
+				.forEach(reservation -> {
+					reservation.setReservationStatus(ReservationStatus.COMMITTED);
+					reservation.setUpdatedAt(now);
+				});
+		return toResult(reservationId, this.stockReservationRepository.saveAll(reservations));
+	}
+	
+	@Override
+	public StockReservationResultDto release(final String reservationId) {
+		log.info("*** StockReservationResultDto, service; release stock reservation *");
+		final List<StockReservation> reservations = this.lockReservations(reservationId);
+		final List<StockLineDto> coldLines = new ArrayList<>();
+		final Instant now = Instant.now();
+		reservations.stream()
+				.filter(reservation -> reservation.getReservationStatus() == ReservationStatus.RESERVED)
+				.forEach(reservation -> {
+					if (reservation.getHot()) {
+						afterCommit(() -> this.hotStockCounters.give(reservation.getProductId(), reservation.getQuantity()));
+					}
+					else {
+						coldLines.add(new StockLineDto(reservation.getProductId(), reservation.getQuantity()));
+					}
+					reservation.setReservationStatus(ReservationStatus.RELEASED);
+					reservation.setUpdatedAt(now);
+				});
+		this.productStockRepository.releaseAll(coldLines);
+		this.recordStockChange(coldLines.stream()
+				.map(StockLineDto::getProductId)
+				.collect(Collectors.toUnmodifiableSet()));
+		return toResult(reservationId, this.stockReservationRepository.saveAll(reservations));
+	}
+	
+	@Override
+	public int releaseExpired() {
+		final List<String> expired = this.stockReservationRepository.findReservationIdsCreatedBefore(
+				ReservationStatus.RESERVED, Instant.now().minus(this.inventoryProperties.getReservationTtl()));
+		expired.forEach(this::release);
+		return expired.size();
+	}
+	
+	@Override
+	@Transactional(Transactional.TxType.REQUIRES_NEW)
+	public Map<Integer, Integer> applyDeductions(final Map<Integer, Integer> deductions) {
+		final Map<Integer, Integer> shortfalls = this.productStockRepository.deductAll(deductions);
+		this.recordStockChange(deductions.keySet());
+		return shortfalls;
+	}
+	
+	private void recordStockChange(final Set<Integer> productIds) {
+		if (productIds.isEmpty()) {
+			return;
+		}
+		final Instant now = Instant.now();
+		this.outboxEventRepository.saveAll(productIds.stream()
+				.map(productId -> OutboxEvent.builder()
+						.cacheName(AppConstant.PRODUCT_CACHE)
+						.entityId(productId)
+						.createdAt(now)
+						.build())
+				.collect(Collectors.toUnmodifiableList()));
+		this.applicationEventPublisher.publishEvent(new StockChangedEvent(Set.copyOf(productIds)));
+	}
+	
+	private StockLineStatus reserveHot(final Integer productId, final int quantity) {
+		while (true) {
+			final StripedStockCounter counter = this.hotStockCounters
+					.load(productId, () -> this.productStockRepository.findQuantity(productId))
+					.orElse(null);
+			if (counter == null) {
+				return StockLineStatus.NOT_FOUND;
+			}
+			if (counter.tryTake(quantity)) {
+				return StockLineStatus.RESERVED;
+			}
+			if (!counter.isRetired()) {
+				return StockLineStatus.INSUFFICIENT_STOCK;
+			}
+		}
+	}
+	
+	private void rollBack(final Map<Integer, Integer> requested, final Map<Integer, StockLineStatus> statuses) {
+		final List<StockLineDto> coldLines = new ArrayList<>();
+		statuses.replaceAll((productId, status) -> {
+			if (status != StockLineStatus.RESERVED) {
+				return status;
+			}
+			if (!this.hotStockCounters.isHot(productId)) {
+				coldLines.add(new StockLineDto(productId, requested.get(productId)));
+			}
+			return StockLineStatus.ROLLED_BACK;
+		});
+		this.productStockRepository.releaseAll(coldLines);
+	}
+	
+	private List<StockReservation> findReservations(final String reservationId) {
+		return requireFound(reservationId, this.stockReservationRepository
+				.findByReservationIdOrderByStockReservationIdAsc(reservationId));
+	}
+	
+	private List<StockReservation> lockReservations(final String reservationId) {
+		return requireFound(reservationId, this.stockReservationRepository.lockByReservationId(reservationId));
+	}
+	
+	private static List<StockReservation> requireFound(final String reservationId, final List<StockReservation> reservations) {
+		if (reservations.isEmpty()) {
+			throw new StockReservationNotFoundException(String
+					.format("Stock reservation with id: %s not found", reservationId));
+		}
+		return reservations;
+	}
+	
+	private static StockReservationResultDto toResult(final String reservationId, final List<StockReservation> reservations) {
+		return StockReservationResultDto.builder()
+				.reservationId(reservationId)
+				.reserved(reservations.stream()
+						.allMatch(reservation -> reservation.getReservationStatus() != ReservationStatus.RELEASED))
+				.lines(reservations.stream()
+						.map(reservation -> new StockLineResultDto(reservation.getProductId(), reservation.getQuantity(), 
+								StockLineStatus.valueOf(reservation.getReservationStatus().name())))
+						.collect(Collectors.toUnmodifiableList()))
+				.build();
+	}
+	
+	private static void afterCommit(final Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+	
+	private void giveBackUnlessKept(final Map<Integer, Integer> hotTaken, final AtomicBoolean kept) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(final int status) {
+				if (status != STATUS_COMMITTED || !kept.get()) {
+					hotTaken.forEach(hotStockCounters::give);
+				}
+			}
+		});
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,90 @@
+package com.selimhorri.app.service.impl;
+
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.event.CategoryTreeChangedEvent;
+import com.selimhorri.app.event.ProductChangedEvent;
+import com.selimhorri.app.event.StockChangedEvent;
+import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.repository.ProductStockRepository;
+import com.selimhorri.app.search.ProductSearchIndex;
+import com.selimhorri.app.search.ProductSearchResult;
+import com.selimhorri.app.service.ProductSearchService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProductSearchServiceImpl implements ProductSearchService {
+	
+	private final ProductRepository productRepository;
+	private final ProductStockRepository productStockRepository;
+	private final ProductSearchIndex productSearchIndex;
+	
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		this.reindex();
+	}
+	
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(final ProductChangedEvent event) {
+		this.productRepository.findById(event.getProductId())
+				.map(ProductMappingHelper::map)
+				.ifPresentOrElse(this.productSearchIndex::index, 
+						() -> this.productSearchIndex.remove(event.getProductId()));
+	}
+	
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onStockChanged(final StockChangedEvent event) {
+		this.productStockRepository.findQuantities(event.getProductIds())
+				.forEach(this.productSearchIndex::updateQuantity);
+	}
+	
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCategoryTreeChanged(final CategoryTreeChangedEvent event) {
+		this.reindex();
+	}
+	
+	@Override
+	public Page<ProductDto> search(final String query, final Integer categoryId, 
+			final Double minPrice, final Double maxPrice, final Pageable pageable) {
+		log.info("*** ProductDto Page, service; search products in index *");
+		final ProductSearchResult result = this.productSearchIndex
+				.search(query, categoryId, minPrice, maxPrice, pageable.getOffset(), pageable.getPageSize());
+		return new PageImpl<>(result.getProducts(), pageable, result.getTotal());
+	}
+	
+	@Override
+	public void reindex() {
+		this.productSearchIndex.replaceAll(this.productRepository.findAll()
+				.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()));
+		log.info("*** Void, service; product search index rebuilt with {} products *", this.productSearchIndex.size());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,15 +1,30 @@
 package com.selimhorri.app.service.impl;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OutboxEvent;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.event.ProductChangedEvent;
+import com.selimhorri.app.exception.wrapper.BatchLimitExceededException;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
 import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.repository.OutboxEventRepository;
 import com.selimhorri.app.repository.ProductRepository;
 import com.selimhorri.app.service.ProductService;
 
@@ -23,6 +38,8 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductServiceImpl implements ProductService {
 	
 	private final ProductRepository productRepository;
+	private final OutboxEventRepository outboxEventRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
 	
 	@Override
 	public List<ProductDto> findAll() {
@@ -34,6 +51,21 @@ public class ProductServiceImpl implements ProductService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public Page<ProductDto> findAll(final Pageable pageable) {
+		log.info("*** ProductDto Page, service; fetch page of products *");
+		return this.productRepository.findAll(pageable)
+				.map(ProductMappingHelper::map);
+	}
+	
+	@Override
+	public Slice<ProductDto> findAllAfter(final Integer productId, final Pageable pageable) {
+		log.info("*** ProductDto Slice, service; fetch products after cursor *");
+		return this.productRepository.findByProductIdGreaterThan(productId, 
+				PageRequest.of(0, pageable.getPageSize(), Sort.by("productId")))
+				.map(ProductMappingHelper::map);
+	}
+	
 	@Override
 	public ProductDto findById(final Integer productId) {
 		log.info("*** ProductDto, service; fetch product by id *");
@@ -42,25 +74,51 @@ public class ProductServiceImpl implements ProductService {
 				.orElseThrow(() -> new ProductNotFoundException(String.format("Product with id: %d not found", productId)));
 	}
 	
+	@Override
+	public List<ProductDto> findAllByIds(final Collection<Integer> productIds) {
+		log.info("*** ProductDto List, service; fetch products by ids *");
+		final Set<Integer> distinctIds = productIds.stream()
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet());
+		if (distinctIds.size() > AppConstant.BATCH_MAX_IDS) {
+			throw new BatchLimitExceededException(String
+					.format("Batch lookup accepts at most %d ids", AppConstant.BATCH_MAX_IDS));
+		}
+		return this.productRepository.findAllById(distinctIds)
+				.stream()
+					.map(ProductMappingHelper::map)
+					.distinct()
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public ProductDto save(final ProductDto productDto) {
 		log.info("*** ProductDto, service; save product *");
-		return ProductMappingHelper.map(this.productRepository
+		final ProductDto saved = ProductMappingHelper.map(this.productRepository
 				.save(ProductMappingHelper.map(productDto)));
+		this.recordInvalidation(saved.getProductId());
+		this.applicationEventPublisher.publishEvent(new ProductChangedEvent(saved.getProductId()));
+		return saved;
 	}
 	
 	@Override
 	public ProductDto update(final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product *");
-		return ProductMappingHelper.map(this.productRepository
+		final ProductDto updated = ProductMappingHelper.map(this.productRepository
 				.save(ProductMappingHelper.map(productDto)));
+		this.recordInvalidation(updated.getProductId());
+		this.applicationEventPublisher.publishEvent(new ProductChangedEvent(updated.getProductId()));
+		return updated;
 	}
 	
 	@Override
 	public ProductDto update(final Integer productId, final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product with productId *");
-		return ProductMappingHelper.map(this.productRepository
+		final ProductDto updated = ProductMappingHelper.map(this.productRepository
 				.save(ProductMappingHelper.map(this.findById(productId))));
+		this.recordInvalidation(productId);
+		this.applicationEventPublisher.publishEvent(new ProductChangedEvent(productId));
+		return updated;
 	}
 	
 	@Override
@@ -68,6 +126,16 @@ public class ProductServiceImpl implements ProductService {
 		log.info("*** Void, service; delete product by id *");
 		this.productRepository.delete(ProductMappingHelper
 				.map(this.findById(productId)));
+		this.recordInvalidation(productId);
+		this.applicationEventPublisher.publishEvent(new ProductChangedEvent(productId));
+	}
+	
+	private void recordInvalidation(final Integer productId) {
+		this.outboxEventRepository.save(OutboxEvent.builder()
+				.cacheName(AppConstant.PRODUCT_CACHE)
+				.entityId(productId)
+				.createdAt(Instant.now())
+				.build());
 	}
 	
 	
@@ -0,0 +1,152 @@
+package com.selimhorri.app.tree;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.repository.projection.CategoryTreeRow;
+import com.selimhorri.app.repository.projection.ProductCategoryRow;
+
+import lombok.Value;
+
+public final class CategoryTree {
+	
+	private final Map<Integer, Node> nodes;
+	
+	private CategoryTree(final Map<Integer, Node> nodes) {
+		this.nodes = nodes;
+	}
+	
+	public static CategoryTree of(final List<CategoryTreeRow> categories, final List<ProductCategoryRow> products) {
+		
+		final Map<Integer, List<Integer>> childIds = new HashMap<>();
+		categories.stream()
+				.filter(row -> row.getParentCategoryId() != null)
+				.filter(row -> !row.getParentCategoryId().equals(row.getCategoryId()))
+				.forEach(row -> childIds.computeIfAbsent(row.getParentCategoryId(), parentId -> new ArrayList<>())
+						.add(row.getCategoryId()));
+		
+		final Map<Integer, List<Integer>> productIds = new HashMap<>();
+		products.forEach(row -> productIds.computeIfAbsent(row.getCategoryId(), categoryId -> new ArrayList<>())
+				.add(row.getProductId()));
+		
+		return new CategoryTree(categories.stream()
+				.collect(Collectors.toUnmodifiableMap(CategoryTreeRow::getCategoryId, row -> new Node(
+						row.getCategoryId(), 
+						row.getParentCategoryId(), 
+						row.getCategoryTitle(), 
+						row.getImageUrl(), 
+						sorted(childIds.get(row.getCategoryId())), 
+						sorted(productIds.get(row.getCategoryId()))))));
+	}
+	
+	public boolean contains(final Integer categoryId) {
+		return this.nodes.containsKey(categoryId);
+	}
+	
+	public int size() {
+		return this.nodes.size();
+	}
+	
+	public List<CategoryDto> descendants(final Integer categoryId) {
+		return this.subtreeIds(categoryId).stream()
+				.skip(1)
+				.map(this::toDto)
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	public List<CategoryDto> pathToRoot(final Integer categoryId) {
+		final List<CategoryDto> path = new ArrayList<>();
+		final Set<Integer> visited = new HashSet<>();
+		Integer currentId = categoryId;
+		while (currentId != null && this.nodes.containsKey(currentId) && visited.add(currentId)) {
+			path.add(this.toDto(currentId));
+			currentId = this.nodes.get(currentId).getParentCategoryId();
+		}
+		return Collections.unmodifiableList(path);
+	}
+	
+	public List<Integer> productIdsInSubtree(final Integer categoryId) {
+		return this.subtreeIds(categoryId).stream()
+				.flatMap(id -> this.nodes.get(id).getProductIds().stream())
+				.sorted()
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	private List<Integer> subtreeIds(final Integer categoryId) {
+		final List<Integer> subtree = new ArrayList<>();
+		if (!this.nodes.containsKey(categoryId)) {
+			return subtree;
+		}
+		
+		final Set<Integer> visited = new HashSet<>();
+		final Deque<Integer> queue = new ArrayDeque<>();
+		queue.add(categoryId);
+		while (!queue.isEmpty()) {
+			final Integer currentId = queue.poll();
+			if (!visited.add(currentId) || !this.nodes.containsKey(currentId)) {
+				continue;
+			}
+			subtree.add(currentId);
+			queue.addAll(this.nodes.get(currentId).getChildIds());
+		}
+		return subtree;
+	}
+	
+	private CategoryDto toDto(final Integer categoryId) {
+		final Node node = this.nodes.get(categoryId);
+		final Node parent = node.getParentCategoryId() == null ? null : this.nodes.get(node.getParentCategoryId());
+		return CategoryDto.builder()
+				.categoryId(node.getCategoryId())
+				.categoryTitle(node.getCategoryTitle())
+				.imageUrl(node.getImageUrl())
+				.parentCategoryDto(parent == null ? null : CategoryDto.builder()
+						.categoryId(parent.getCategoryId())
+						.categoryTitle(parent.getCategoryTitle())
+						.imageUrl(parent.getImageUrl())
+						.build())
+				.build();
+	}
+	
+	private static List<Integer> sorted(final List<Integer> ids) {
+		if (ids == null) {
+			return List.of();
+		}
+		return ids.stream()
+				.sorted()
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Value
+	private static class Node {
+		
+		Integer categoryId;
+		Integer parentCategoryId;
+		String categoryTitle;
+		String imageUrl;
+		List<Integer> childIds;
+		List<Integer> productIds;
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
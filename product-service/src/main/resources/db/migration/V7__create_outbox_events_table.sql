@@ -0,0 +1,11 @@
+
+CREATE TABLE outbox_events (
+	outbox_event_id INT(11) NOT NULL PRIMARY KEY AUTO_INCREMENT,
+	cache_name VARCHAR(255) NOT NULL,
+	entity_id INT(11) NOT NULL,
+	created_at TIMESTAMP DEFAULT LOCALTIMESTAMP NOT NULL NULL_TO_DEFAULT,
+	published_at TIMESTAMP
+);
+
+CREATE INDEX idx_outbox_events_published_at ON outbox_events (published_at, outbox_event_id);
+
@@ -0,0 +1,15 @@
+
+CREATE TABLE stock_reservations (
+	stock_reservation_id INT(11) NOT NULL PRIMARY KEY AUTO_INCREMENT,
+	reservation_id VARCHAR(64) NOT NULL,
+	product_id INT(11) NOT NULL,
+	quantity INT(11) NOT NULL,
+	hot BOOLEAN DEFAULT FALSE NOT NULL,
+	reservation_status VARCHAR(16) NOT NULL,
+	created_at TIMESTAMP DEFAULT LOCALTIMESTAMP NOT NULL NULL_TO_DEFAULT,
+	updated_at TIMESTAMP
+);
+
+CREATE INDEX idx_stock_reservations_reservation_id ON stock_reservations (reservation_id);
+CREATE INDEX idx_stock_reservations_status_created_at ON stock_reservations (reservation_status, created_at);
+
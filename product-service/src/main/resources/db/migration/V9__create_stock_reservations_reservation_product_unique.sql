@@ -0,0 +1,3 @@
+
+ALTER TABLE stock_reservations ADD CONSTRAINT uk_stock_reservations_reservation_id_product_id UNIQUE (reservation_id, product_id);
+
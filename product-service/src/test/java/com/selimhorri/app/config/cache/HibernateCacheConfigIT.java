@@ -0,0 +1,105 @@
+package com.selimhorri.app.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.cache.CacheManager;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.CacheInvalidationEvent;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:product_cache_db;DB_CLOSE_DELAY=-1",
+        "app.hibernate-cache.enabled=true",
+        "eureka.client.enabled=false",
+        "eureka.client.register-with-eureka=false",
+        "eureka.client.fetch-registry=false",
+        "spring.zipkin.enabled=false",
+        "spring.cloud.config.enabled=false",
+        "SPRING_CONFIG_IMPORT=optional:file:./"
+    })
+@ActiveProfiles("dev")
+class HibernateCacheConfigIT {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager hibernateCacheManagerBean;
+
+    @Autowired
+    private HibernateCacheProperties hibernateCacheProperties;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("a second lookup of the same product is served from the products region")
+    void repeatedLookupHitsRegion() {
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        findProduct(1);
+        findProduct(1);
+
+        assertThat(statistics.getDomainDataRegionStatistics("products").getHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("another context in the same JVM gets its own cache manager and leaves this one open")
+    void contextsDoNotShareCacheManager() {
+        try (CacheManager other = new HibernateCacheConfig().hibernateCacheManagerBean(hibernateCacheProperties,
+                new GenericApplicationContext())) {
+            assertThat(other).isNotSameAs(hibernateCacheManagerBean);
+            assertThat(other.getCache("products")).isNotNull();
+        }
+
+        assertThat(hibernateCacheManagerBean.isClosed()).isFalse();
+        assertThat(hibernateCacheManagerBean.getCache("products")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("an invalidation event delivered by a sibling instance evicts the cached product")
+    void invalidationEventEvictsProduct() {
+        findProduct(1);
+        assertThat(entityManagerFactory.getCache().contains(Product.class, 1)).isTrue();
+        // the sibling's write, which never went through this instance's Hibernate session
+        jdbcTemplate.update("UPDATE products SET product_title = ? WHERE product_id = ?", "written by a sibling", 1);
+
+        applicationEventPublisher.publishEvent(CacheInvalidationEvent.builder()
+            .cacheName(AppConstant.PRODUCT_CACHE)
+            .key(1)
+            .build());
+
+        // replica listeners may reload the product right after the eviction, so check what is read back
+        assertThat(findProduct(1).getProductTitle()).isEqualTo("written by a sibling");
+    }
+
+    private Product findProduct(final Integer id) {
+        final EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            final Product product = entityManager.find(Product.class, id);
+            assertThat(product).isNotNull();
+            return product;
+        }
+        finally {
+            entityManager.close();
+        }
+    }
+}
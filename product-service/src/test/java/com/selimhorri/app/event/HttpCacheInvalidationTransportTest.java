@@ -0,0 +1,138 @@
+package com.selimhorri.app.event;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.ExpectedCount.never;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import com.selimhorri.app.config.event.CacheEventProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.CacheInvalidationEvent;
+
+@ExtendWith(MockitoExtension.class)
+class HttpCacheInvalidationTransportTest {
+
+    private static final List<CacheInvalidationEvent> EVENTS = List.of(event(5));
+    private static final List<CacheInvalidationEvent> NEXT_EVENTS = List.of(event(8));
+
+    @Mock
+    private DiscoveryClient discoveryClient;
+
+    private MockRestServiceServer server;
+
+    private CacheEventProperties properties;
+
+    private HttpCacheInvalidationTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        CacheEventProperties.Subscriber subscriber = new CacheEventProperties.Subscriber();
+        subscriber.setServiceId("SHIPPING-SERVICE");
+        subscriber.setContextPath("/shipping-service");
+        properties = new CacheEventProperties();
+        properties.setSubscribers(List.of(subscriber));
+
+        when(discoveryClient.getInstances("SHIPPING-SERVICE")).thenReturn(List.of(
+            new DefaultServiceInstance("down", "SHIPPING-SERVICE", "down.local", 8600, false),
+            new DefaultServiceInstance("up", "SHIPPING-SERVICE", "up.local", 8600, false)));
+
+        createTransport(Duration.ofHours(1), Duration.ofHours(2));
+    }
+
+    @Test
+    @DisplayName("a failing instance is backed off without failing the batch or resending it to healthy instances")
+    void failingInstanceIsBackedOffAlone() {
+        server.expect(requestTo(uri("down"))).andExpect(method(HttpMethod.POST)).andRespond(withServerError());
+        server.expect(requestTo(uri("up"))).andExpect(content().json("[{\"key\":5}]")).andRespond(withSuccess());
+        server.expect(requestTo(uri("up"))).andExpect(content().json("[{\"key\":8}]")).andRespond(withSuccess());
+
+        transport.publish(EVENTS);
+        transport.publish(NEXT_EVENTS);
+        transport.redeliverBacklogs();
+
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("once its backoff elapses a recovered instance receives its whole backlog in one request")
+    void backlogIsRedeliveredAfterBackoff() {
+        createTransport(Duration.ZERO, Duration.ofHours(1));
+        server.expect(requestTo(uri("down"))).andRespond(withServerError());
+        server.expect(requestTo(uri("up"))).andExpect(content().json("[{\"key\":5}]")).andRespond(withSuccess());
+        server.expect(requestTo(uri("down"))).andExpect(content().json("[{\"key\":5},{\"key\":8}]"))
+            .andRespond(withSuccess());
+        server.expect(requestTo(uri("up"))).andExpect(content().json("[{\"key\":8}]")).andRespond(withSuccess());
+
+        transport.publish(EVENTS);
+        transport.publish(NEXT_EVENTS);
+        transport.redeliverBacklogs();
+
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("an instance still failing at the backoff cap is given up on and its backlog dropped")
+    void instanceFailingAtCapIsGivenUp() {
+        createTransport(Duration.ZERO, Duration.ZERO);
+        server.expect(requestTo(uri("down"))).andRespond(withServerError());
+        server.expect(requestTo(uri("up"))).andRespond(withSuccess());
+        server.expect(requestTo(uri("down"))).andRespond(withServerError());
+        server.expect(never(), requestTo(uri("down")));
+
+        transport.publish(EVENTS);
+        transport.redeliverBacklogs();
+        transport.redeliverBacklogs();
+
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("a batch acknowledged by every instance is published without error")
+    void allInstancesAcknowledge() {
+        server.expect(requestTo(uri("down"))).andExpect(method(HttpMethod.POST)).andRespond(withSuccess());
+        server.expect(requestTo(uri("up"))).andExpect(method(HttpMethod.POST)).andRespond(withSuccess());
+
+        transport.publish(EVENTS);
+
+        server.verify();
+    }
+
+    private void createTransport(final Duration backoffInitial, final Duration backoffMax) {
+        properties.setBackoffInitial(backoffInitial);
+        properties.setBackoffMax(backoffMax);
+        MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer();
+        transport = new HttpCacheInvalidationTransport(discoveryClient, properties, new RestTemplateBuilder(customizer));
+        server = customizer.getServer();
+    }
+
+    private static CacheInvalidationEvent event(final int key) {
+        return CacheInvalidationEvent.builder()
+            .cacheName(AppConstant.PRODUCT_CACHE)
+            .key(key)
+            .build();
+    }
+
+    private URI uri(final String host) {
+        return URI.create("http://" + host + ".local:8600/shipping-service" + AppConstant.CACHE_EVENTS_API_PATH);
+    }
+}
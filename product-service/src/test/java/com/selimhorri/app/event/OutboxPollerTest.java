@@ -0,0 +1,87 @@
+package com.selimhorri.app.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OutboxEvent;
+import com.selimhorri.app.dto.CacheInvalidationEvent;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxPollerTest {
+
+    @Mock
+    private OutboxEventClaimer outboxEventClaimer;
+
+    private final List<CacheInvalidationEvent> published = new ArrayList<>();
+
+    private OutboxPoller outboxPoller;
+
+    @BeforeEach
+    void setUp() {
+        outboxPoller = new OutboxPoller(outboxEventClaimer, published::addAll);
+    }
+
+    @Test
+    @DisplayName("drain publishes distinct keys once and marks the claimed rows as published")
+    void drainPublishesAndMarksRows() {
+        when(outboxEventClaimer.claim()).thenReturn(List.of(sampleEvent(1, 5), sampleEvent(2, 5), sampleEvent(3, 8)));
+
+        outboxPoller.drain();
+
+        assertThat(published).extracting(CacheInvalidationEvent::getKey).containsExactly(5, 8);
+        assertThat(published).extracting(CacheInvalidationEvent::getCacheName).containsOnly(AppConstant.PRODUCT_CACHE);
+        verify(outboxEventClaimer).markPublished(List.of(1, 2, 3));
+    }
+
+    @Test
+    @DisplayName("drain leaves claimed rows unpublished when the transport fails")
+    void drainKeepsRowsOnTransportFailure() {
+        CacheInvalidationTransport failing = mock(CacheInvalidationTransport.class);
+        doThrow(new IllegalStateException("subscriber down")).when(failing).publish(any());
+        outboxPoller = new OutboxPoller(outboxEventClaimer, failing);
+        when(outboxEventClaimer.claim()).thenReturn(List.of(sampleEvent(1, 5)));
+
+        outboxPoller.drain();
+
+        verify(failing).publish(any());
+        verify(outboxEventClaimer, never()).markPublished(anyCollection());
+    }
+
+    @Test
+    @DisplayName("drain does nothing when no rows could be claimed")
+    void drainSkipsEmptyClaims() {
+        when(outboxEventClaimer.claim()).thenReturn(List.of());
+
+        outboxPoller.drain();
+
+        assertThat(published).isEmpty();
+        verify(outboxEventClaimer, never()).markPublished(anyCollection());
+    }
+
+    private OutboxEvent sampleEvent(final int outboxEventId, final int productId) {
+        return OutboxEvent.builder()
+            .outboxEventId(outboxEventId)
+            .cacheName(AppConstant.PRODUCT_CACHE)
+            .entityId(productId)
+            .createdAt(Instant.parse("2024-01-01T10:00:00Z"))
+            .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.selimhorri.app.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.CacheInvalidationEvent;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.service.ProductSearchService;
+import com.selimhorri.app.service.ProductService;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:product_replica_db;DB_CLOSE_DELAY=-1",
+        "eureka.client.enabled=false",
+        "eureka.client.register-with-eureka=false",
+        "eureka.client.fetch-registry=false",
+        "spring.zipkin.enabled=false",
+        "spring.cloud.config.enabled=false",
+        "SPRING_CONFIG_IMPORT=optional:file:./"
+    })
+@ActiveProfiles("dev")
+class ReplicaWriteListenerIT {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductSearchService productSearchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Test
+    @DisplayName("a product written by a replica is served fresh and searchable after its invalidation event")
+    void replicaWriteRefreshesCacheAndIndex() {
+        productService.findById(1);
+        jdbcTemplate.update("UPDATE products SET product_title = ? WHERE product_id = ?", "Zanzibar lamp", 1);
+
+        applicationEventPublisher.publishEvent(CacheInvalidationEvent.builder()
+            .cacheName(AppConstant.PRODUCT_CACHE)
+            .key(1)
+            .build());
+
+        assertThat(productService.findById(1).getProductTitle()).isEqualTo("Zanzibar lamp");
+        assertThat(productSearchService.search("zanzibar", null, null, null, PageRequest.of(0, 10)).getContent())
+            .extracting(ProductDto::getProductId)
+            .containsExactly(1);
+    }
+}
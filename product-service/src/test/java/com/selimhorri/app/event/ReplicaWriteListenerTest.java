@@ -0,0 +1,56 @@
+package com.selimhorri.app.event;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.CacheInvalidationEvent;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaWriteListenerTest {
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @InjectMocks
+    private ReplicaWriteListener listener;
+
+    @Test
+    @DisplayName("a product event from a replica is replayed as a local product change")
+    void replaysProductWrites() {
+        listener.onCacheInvalidation(event(AppConstant.PRODUCT_CACHE, 5));
+
+        verify(applicationEventPublisher).publishEvent(new ProductChangedEvent(5));
+    }
+
+    @Test
+    @DisplayName("a category event from a replica is replayed as a category tree change")
+    void replaysCategoryWrites() {
+        listener.onCacheInvalidation(event(AppConstant.CATEGORY_CACHE, 3));
+
+        verify(applicationEventPublisher).publishEvent(new CategoryTreeChangedEvent("category changed on a replica"));
+    }
+
+    @Test
+    @DisplayName("events for other caches are ignored")
+    void ignoresOtherCaches() {
+        listener.onCacheInvalidation(event("users", 5));
+
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    private CacheInvalidationEvent event(final String cacheName, final int key) {
+        return CacheInvalidationEvent.builder()
+            .cacheName(cacheName)
+            .key(key)
+            .build();
+    }
+}
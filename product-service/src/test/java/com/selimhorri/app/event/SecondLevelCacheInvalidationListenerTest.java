@@ -0,0 +1,66 @@
+package com.selimhorri.app.event;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.CacheInvalidationEvent;
+
+@ExtendWith(MockitoExtension.class)
+class SecondLevelCacheInvalidationListenerTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private org.hibernate.Cache hibernateCache;
+
+    @InjectMocks
+    private SecondLevelCacheInvalidationListener listener;
+
+    @Test
+    @DisplayName("product and category events evict the entity and the cached query results")
+    void evictsEntityAndQueryResults() {
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        when(cache.unwrap(org.hibernate.Cache.class)).thenReturn(hibernateCache);
+
+        listener.onCacheInvalidation(event(AppConstant.PRODUCT_CACHE, 5));
+        listener.onCacheInvalidation(event(AppConstant.CATEGORY_CACHE, 3));
+
+        verify(cache).evict(Product.class, 5);
+        verify(cache).evict(Category.class, 3);
+        verify(hibernateCache, times(2)).evictDefaultQueryRegion();
+    }
+
+    @Test
+    @DisplayName("events for caches without a second-level region are ignored")
+    void ignoresUnknownCaches() {
+        listener.onCacheInvalidation(event("users", 5));
+
+        verifyNoInteractions(entityManagerFactory);
+    }
+
+    private CacheInvalidationEvent event(final String cacheName, final int key) {
+        return CacheInvalidationEvent.builder()
+            .cacheName(cacheName)
+            .key(key)
+            .build();
+    }
+}
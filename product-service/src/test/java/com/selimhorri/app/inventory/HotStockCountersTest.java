@@ -0,0 +1,88 @@
+package com.selimhorri.app.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.config.inventory.InventoryProperties;
+
+class HotStockCountersTest {
+
+    private static final Integer PRODUCT_ID = 7;
+
+    private final HotStockCounters hotStockCounters = new HotStockCounters(properties());
+
+    @Test
+    @DisplayName("retiring a counter under concurrent takes loses no deduction")
+    void retireKeepsEveryTake() throws Exception {
+        StripedStockCounter counter = hotStockCounters.load(PRODUCT_ID, () -> Optional.of(100_000)).orElseThrow();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            tasks.add(() -> {
+                int taken = 0;
+                for (int i = 0; i < 10_000; i++) {
+                    if (counter.tryTake(1)) {
+                        taken++;
+                    }
+                }
+                return taken;
+            });
+        }
+
+        int total = 0;
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            tasks.forEach(task -> futures.add(executor.submit(task)));
+            hotStockCounters.retire(PRODUCT_ID);
+            for (Future<Integer> future : futures) {
+                total += future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(counter.isRetired()).isTrue();
+        assertThat(hotStockCounters.find(PRODUCT_ID)).isEmpty();
+        assertThat(hotStockCounters.drainPending()).isEqualTo(total == 0 ? Map.of() : Map.of(PRODUCT_ID, total));
+    }
+
+    @Test
+    @DisplayName("unflushed deductions survive eviction until a flush is confirmed")
+    void unflushedSurvivesRetire() {
+        hotStockCounters.load(PRODUCT_ID, () -> Optional.of(10)).orElseThrow().tryTake(4);
+        hotStockCounters.retire(PRODUCT_ID);
+
+        Map<Integer, Integer> pending = hotStockCounters.drainPending();
+        assertThat(pending).isEqualTo(Map.of(PRODUCT_ID, 4));
+        assertThat(hotStockCounters.load(PRODUCT_ID, () -> Optional.of(10)).orElseThrow().available()).isEqualTo(6);
+
+        hotStockCounters.markFlushed(pending);
+        assertThat(hotStockCounters.drainPending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("stock given back after the counter is gone is flushed as a negative deduction")
+    void giveWithoutCounterIsKept() {
+        hotStockCounters.give(PRODUCT_ID, 3);
+
+        assertThat(hotStockCounters.drainPending()).isEqualTo(Map.of(PRODUCT_ID, -3));
+    }
+
+    private static InventoryProperties properties() {
+        InventoryProperties properties = new InventoryProperties();
+        properties.setHotProductIds(Set.of(PRODUCT_ID));
+        return properties;
+    }
+}
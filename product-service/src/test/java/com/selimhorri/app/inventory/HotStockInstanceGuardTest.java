@@ -0,0 +1,54 @@
+package com.selimhorri.app.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+import com.selimhorri.app.config.inventory.InventoryProperties;
+
+class HotStockInstanceGuardTest {
+
+    private static final String SERVICE_ID = "PRODUCT-SERVICE";
+
+    private final DiscoveryClient discoveryClient = mock(DiscoveryClient.class);
+
+    @Test
+    @DisplayName("hot products served by more than one registered instance are flagged")
+    void flagsHotModeOnSeveralInstances() {
+        when(discoveryClient.getInstances(SERVICE_ID))
+            .thenReturn(List.of(mock(ServiceInstance.class), mock(ServiceInstance.class)));
+
+        assertThat(guard(Set.of(7)).checkSingleInstance()).isFalse();
+    }
+
+    @Test
+    @DisplayName("a single registered instance may keep hot counters")
+    void allowsHotModeOnSingleInstance() {
+        when(discoveryClient.getInstances(SERVICE_ID)).thenReturn(List.of(mock(ServiceInstance.class)));
+
+        assertThat(guard(Set.of(7)).checkSingleInstance()).isTrue();
+    }
+
+    @Test
+    @DisplayName("without hot products the registry is not consulted")
+    void ignoresInstancesWhenHotModeIsOff() {
+        assertThat(guard(Set.of()).checkSingleInstance()).isTrue();
+
+        verifyNoInteractions(discoveryClient);
+    }
+
+    private HotStockInstanceGuard guard(final Set<Integer> hotProductIds) {
+        InventoryProperties properties = new InventoryProperties();
+        properties.setHotProductIds(hotProductIds);
+        return new HotStockInstanceGuard(properties, discoveryClient, SERVICE_ID);
+    }
+}
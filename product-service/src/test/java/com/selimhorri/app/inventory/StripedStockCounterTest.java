@@ -0,0 +1,74 @@
+package com.selimhorri.app.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StripedStockCounterTest {
+
+    @Test
+    @DisplayName("takes spanning several stripes succeed until the total runs out")
+    void takesAcrossStripes() {
+        StripedStockCounter counter = new StripedStockCounter(4, 10);
+
+        assertThat(counter.tryTake(7)).isTrue();
+        assertThat(counter.tryTake(4)).isFalse();
+        assertThat(counter.available()).isEqualTo(3);
+        assertThat(counter.tryTake(3)).isTrue();
+        assertThat(counter.available()).isZero();
+        assertThat(counter.drainPending()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("given back stock is reusable and reduces pending deductions")
+    void giveRestoresStock() {
+        StripedStockCounter counter = new StripedStockCounter(2, 5);
+
+        assertThat(counter.tryTake(5)).isTrue();
+        counter.give(2);
+
+        assertThat(counter.available()).isEqualTo(2);
+        assertThat(counter.drainPending()).isEqualTo(3);
+        assertThat(counter.drainPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("concurrent takes never oversell")
+    void neverOversellsUnderContention() throws Exception {
+        StripedStockCounter counter = new StripedStockCounter(8, 1000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            tasks.add(() -> {
+                int taken = 0;
+                for (int i = 0; i < 250; i++) {
+                    if (counter.tryTake(1)) {
+                        taken++;
+                    }
+                }
+                return taken;
+            });
+        }
+
+        int total = 0;
+        try {
+            for (Future<Integer> future : executor.invokeAll(tasks)) {
+                total += future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(total).isEqualTo(1000);
+        assertThat(counter.available()).isZero();
+        assertThat(counter.drainPending()).isEqualTo(1000);
+    }
+}
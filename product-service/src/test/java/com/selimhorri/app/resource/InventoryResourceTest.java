@@ -0,0 +1,49 @@
+package com.selimhorri.app.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.selimhorri.app.dto.StockLineDto;
+import com.selimhorri.app.dto.StockLineResultDto;
+import com.selimhorri.app.dto.StockLineStatus;
+import com.selimhorri.app.dto.StockReservationDto;
+import com.selimhorri.app.dto.StockReservationResultDto;
+import com.selimhorri.app.service.InventoryService;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryResourceTest {
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @InjectMocks
+    private InventoryResource inventoryResource;
+
+    @Test
+    @DisplayName("a retry losing the unique reservation race is answered with the recorded reservation")
+    void duplicateReservationReturnsExisting() {
+        StockReservationDto request = StockReservationDto.builder()
+            .reservationId("order-1")
+            .lines(List.of(new StockLineDto(1, 2)))
+            .build();
+        StockReservationResultDto existing = StockReservationResultDto.builder()
+            .reservationId("order-1")
+            .reserved(true)
+            .lines(List.of(new StockLineResultDto(1, 2, StockLineStatus.RESERVED)))
+            .build();
+        when(inventoryService.reserve(request)).thenThrow(new DataIntegrityViolationException("uk_stock_reservations_reservation_id_product_id"));
+        when(inventoryService.findById("order-1")).thenReturn(existing);
+
+        assertThat(inventoryResource.reserve(request).getBody()).isEqualTo(existing);
+    }
+}
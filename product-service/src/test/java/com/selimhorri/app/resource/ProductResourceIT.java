@@ -2,20 +2,33 @@ package com.selimhorri.app.resource;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Category;
 import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.dto.CategoryDto;
@@ -32,6 +45,7 @@ import com.selimhorri.app.repository.ProductRepository;
         "eureka.client.fetch-registry=false",
         "spring.zipkin.enabled=false",
         "spring.cloud.config.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
         "SPRING_CONFIG_IMPORT=optional:file:./"
     })
 @AutoConfigureMockMvc
@@ -50,6 +64,12 @@ class ProductResourceIT {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @LocalServerPort
+    private int port;
+
     private Category electronics;
 
     @BeforeEach
@@ -82,6 +102,77 @@ class ProductResourceIT {
             .andExpect(jsonPath("$.category.categoryTitle").value("Electronics"));
     }
 
+    @Test
+    @DisplayName("GET /product-service/api/products/{id} responde 304 cuando If-None-Match coincide con el ETag")
+    void findByIdHonoursIfNoneMatch() throws Exception {
+        Product saved = productRepository.save(Product.builder()
+            .productTitle("Tablet")
+            .sku("SKU-ETAG-001")
+            .priceUnit(299.0)
+            .quantity(5)
+            .category(electronics)
+            .build());
+
+        String eTag = mockMvc.perform(get("/product-service/api/products/{productId}", saved.getProductId()).contextPath("/product-service"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/product-service/api/products/{productId}", saved.getProductId()).contextPath("/product-service")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag));
+    }
+
+    @Test
+    @DisplayName("GET /product-service/api/products se comprime con gzip y lleva un ETag débil")
+    void catalogResponseIsCompressedWithWeakETag() throws Exception {
+        for (int i = 1; i <= 30; i++) {
+            productRepository.save(Product.builder()
+                .productTitle("Compressible product " + i)
+                .sku("SKU-GZIP-" + i)
+                .priceUnit(9.99 * i)
+                .quantity(i)
+                .imageUrl("https://cdn.example.com/sku-gzip-" + i + ".png")
+                .category(electronics)
+                .build());
+        }
+
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(HttpRequest
+                .newBuilder(URI.create("http://localhost:" + port + "/product-service/api/products"))
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        org.assertj.core.api.Assertions.assertThat(response.statusCode()).isEqualTo(200);
+        org.assertj.core.api.Assertions.assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING))
+            .contains("gzip");
+        org.assertj.core.api.Assertions.assertThat(response.headers().firstValue(HttpHeaders.ETAG))
+            .hasValueSatisfying(eTag -> org.assertj.core.api.Assertions.assertThat(eTag).startsWith("W/\""));
+    }
+
+    @Test
+    @DisplayName("GET /product-service/api/products carga las categorías en la misma consulta")
+    void findAllJoinsCategoryInSingleQuery() throws Exception {
+        Category accessories = categoryRepository.save(Category.builder()
+            .categoryTitle("Accessories")
+            .build());
+        productRepository.save(Product.builder().productTitle("Phone").sku("SKU-GRAPH-1").category(electronics).build());
+        productRepository.save(Product.builder().productTitle("Case").sku("SKU-GRAPH-2").category(accessories).build());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/product-service/api/products").contextPath("/product-service"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.collection.length()").value(2))
+            .andExpect(jsonPath("$.collection[0].category.categoryTitle").value("Electronics"))
+            .andExpect(jsonPath("$.collection[1].category.categoryTitle").value("Accessories"));
+
+        org.assertj.core.api.Assertions.assertThat(statistics.getEntityStatistics(Category.class.getName()).getFetchCount())
+            .isZero();
+    }
+
     @Test
     @DisplayName("POST /product-service/api/products persiste un producto cuando la categoría existe")
     void saveProductPersistsEntity() throws Exception {
@@ -108,4 +199,71 @@ class ProductResourceIT {
         org.assertj.core.api.Assertions.assertThat(productRepository.findAll())
             .anyMatch(product -> "SKU-IT-002".equals(product.getSku()));
     }
+
+    @Test
+    @DisplayName("GET /product-service/api/products pagina resultados y admite cursor after")
+    void findAllReturnsPageAndKeysetCursor() throws Exception {
+        Product first = null;
+        for (int i = 1; i <= 3; i++) {
+            Product saved = productRepository.save(Product.builder()
+                .productTitle("Item " + i)
+                .sku("SKU-PAGE-00" + i)
+                .priceUnit(10.0 * i)
+                .quantity(i)
+                .category(electronics)
+                .build());
+            if (first == null) {
+                first = saved;
+            }
+        }
+
+        mockMvc.perform(get("/product-service/api/products").contextPath("/product-service")
+                .param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.collection.length()").value(2))
+            .andExpect(jsonPath("$.page").value(0))
+            .andExpect(jsonPath("$.totalElements").value(3))
+            .andExpect(jsonPath("$.hasNext").value(true));
+
+        mockMvc.perform(get("/product-service/api/products").contextPath("/product-service")
+                .param("size", "2")
+                .param("after", String.valueOf(first.getProductId())))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.collection.length()").value(2))
+            .andExpect(jsonPath("$.collection[0].productTitle").value("Item 2"))
+            .andExpect(jsonPath("$.hasNext").value(false))
+            .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /product-service/api/products sin page, size ni sort devuelve el catálogo completo")
+    void findAllWithoutPagingParametersIsUnpaged() throws Exception {
+        for (int i = 1; i <= AppConstant.DEFAULT_PAGE_SIZE + 5; i++) {
+            productRepository.save(Product.builder()
+                .productTitle("Unpaged " + i)
+                .sku("SKU-UNPAGED-" + i)
+                .category(electronics)
+                .build());
+        }
+
+        mockMvc.perform(get("/product-service/api/products").contextPath("/product-service"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.collection.length()").value(AppConstant.DEFAULT_PAGE_SIZE + 5))
+            .andExpect(jsonPath("$.hasNext").value(false));
+
+        mockMvc.perform(get("/product-service/api/products").contextPath("/product-service")
+                .param("sort", "productTitle"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.collection.length()").value(AppConstant.DEFAULT_PAGE_SIZE))
+            .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("GET /product-service/api/products rechaza sort combinado con el cursor after")
+    void findAllRejectsSortWithCursor() throws Exception {
+        mockMvc.perform(get("/product-service/api/products").contextPath("/product-service")
+                .param("after", "0")
+                .param("sort", "productTitle"))
+            .andExpect(status().isBadRequest());
+    }
 }
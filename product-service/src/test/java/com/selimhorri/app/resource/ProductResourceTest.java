@@ -0,0 +1,119 @@
+package com.selimhorri.app.resource;
+
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.exception.ApiExceptionHandler;
+import com.selimhorri.app.repository.OutboxEventRepository;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.ProductSearchService;
+import com.selimhorri.app.service.impl.ProductServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class ProductResourceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private ProductSearchService productSearchService;
+
+    @InjectMocks
+    private ProductServiceImpl productService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ProductResource(productService, productSearchService))
+            .setControllerAdvice(new ApiExceptionHandler())
+            .build();
+    }
+
+    @Test
+    @DisplayName("POST /batch ignores null and repeated ids instead of failing")
+    void postBatchIgnoresNullIds() throws Exception {
+        when(productRepository.findAllById(Set.of(5, 6))).thenReturn(List.of(sampleProduct()));
+
+        mockMvc.perform(post("/api/products/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[5, null, 6, 5]"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.collection[0].productId").value(5));
+    }
+
+    @Test
+    @DisplayName("GET /batch ignores empty ids instead of failing")
+    void getBatchIgnoresEmptyIds() throws Exception {
+        when(productRepository.findAllById(Set.of(5, 6))).thenReturn(List.of(sampleProduct()));
+
+        mockMvc.perform(get("/api/products/batch").param("ids", "5,,6"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.collection[0].productId").value(5));
+    }
+
+    @Test
+    @DisplayName("POST /batch above the id limit is answered with 400")
+    void postBatchOverLimitIsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/products/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(idsOverLimit()))
+            .andExpect(status().isBadRequest());
+
+        verify(productRepository, never()).findAllById(anyIterable());
+    }
+
+    private String idsOverLimit() {
+        return IntStream.rangeClosed(1, AppConstant.BATCH_MAX_IDS + 1)
+            .mapToObj(Integer::toString)
+            .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private Product sampleProduct() {
+        return Product.builder()
+            .productId(5)
+            .productTitle("Phone")
+            .imageUrl("/img/phone.png")
+            .sku("SKU-123")
+            .priceUnit(199.99)
+            .quantity(10)
+            .category(Category.builder()
+                .categoryId(3)
+                .categoryTitle("Electronics")
+                .imageUrl("/img/cat.png")
+                .build())
+            .build();
+    }
+}
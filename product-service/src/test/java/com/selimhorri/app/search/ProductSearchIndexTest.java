@@ -0,0 +1,110 @@
+package com.selimhorri.app.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
+
+class ProductSearchIndexTest {
+
+    private final ProductSearchIndex index = new ProductSearchIndex();
+
+    @BeforeEach
+    void setUp() {
+        index.replaceAll(List.of(
+            product(1, "Galaxy Phone", "SKU-GAL-1", 799.0, 10, "Phones"),
+            product(2, "Phone Case", "SKU-CASE-2", 19.0, 20, "Accessories"),
+            product(3, "Gaming Laptop", "SKU-LAP-3", 1499.0, 30, "Laptops")));
+    }
+
+    @Test
+    @DisplayName("title matches rank above category-only matches")
+    void ranksTitleMatchesFirst() {
+        index.index(product(4, "Charger", "SKU-CHG-4", 25.0, 10, "Phones"));
+
+        assertThat(search("phone", null, null, null))
+            .extracting(ProductDto::getProductId)
+            .containsExactly(1, 2, 4);
+    }
+
+    @Test
+    @DisplayName("every query term must match, prefixes included")
+    void requiresAllTermsWithPrefixes() {
+        assertThat(search("gal pho", null, null, null))
+            .extracting(ProductDto::getProductId)
+            .containsExactly(1);
+        assertThat(search("sku-lap-3", null, null, null))
+            .extracting(ProductDto::getProductId)
+            .containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("category and price filters narrow the ranked results")
+    void appliesFilters() {
+        assertThat(search(null, 30, null, null)).extracting(ProductDto::getProductId).containsExactly(3);
+        assertThat(search("phone", null, 100.0, null)).extracting(ProductDto::getProductId).containsExactly(1);
+        assertThat(search("", null, null, 500.0)).extracting(ProductDto::getProductId).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("updates and removals are reflected incrementally")
+    void updatesIncrementally() {
+        index.index(product(2, "Laptop Sleeve", "SKU-CASE-2", 19.0, 20, "Accessories"));
+        index.remove(3);
+
+        assertThat(search("phone", null, null, null)).extracting(ProductDto::getProductId).containsExactly(1);
+        assertThat(search("laptop", null, null, null)).extracting(ProductDto::getProductId).containsExactly(2);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("stock changes update the indexed quantity without reindexing")
+    void updatesQuantity() {
+        index.updateQuantity(1, 42);
+        index.updateQuantity(99, 1);
+
+        assertThat(search("galaxy", null, null, null)).extracting(ProductDto::getQuantity).containsExactly(42);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("only the requested page is materialized while the total counts every match")
+    void pagesOverRankedIds() {
+        index.index(product(4, "Charger", "SKU-CHG-4", 25.0, 10, "Phones"));
+
+        ProductSearchResult second = index.search("phone", null, null, null, 1, 1);
+        assertThat(second.getProducts()).extracting(ProductDto::getProductId).containsExactly(2);
+        assertThat(second.getTotal()).isEqualTo(3);
+
+        ProductSearchResult browse = index.search(null, null, null, null, 2, 5);
+        assertThat(browse.getProducts()).extracting(ProductDto::getProductId).containsExactly(3, 4);
+        assertThat(browse.getTotal()).isEqualTo(4);
+
+        assertThat(index.search("phone", null, null, null, 5, 5).getProducts()).isEmpty();
+    }
+
+    private List<ProductDto> search(final String query, final Integer categoryId, final Double minPrice, final Double maxPrice) {
+        return index.search(query, categoryId, minPrice, maxPrice, 0, Integer.MAX_VALUE).getProducts();
+    }
+
+    private ProductDto product(final int productId, final String title, final String sku, final double price,
+            final int categoryId, final String categoryTitle) {
+        return ProductDto.builder()
+            .productId(productId)
+            .productTitle(title)
+            .sku(sku)
+            .priceUnit(price)
+            .quantity(5)
+            .categoryDto(CategoryDto.builder()
+                .categoryId(categoryId)
+                .categoryTitle(categoryTitle)
+                .build())
+            .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.selimhorri.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.event.CategoryTreeChangedEvent;
+import com.selimhorri.app.event.ProductChangedEvent;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.repository.projection.CategoryTreeRow;
+import com.selimhorri.app.service.impl.CategoryTreeServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryTreeServiceImplTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private CategoryTreeServiceImpl categoryTreeService;
+
+    @Test
+    @DisplayName("product changes only mark the snapshot stale and a burst is folded into one refresh")
+    void productChangesAreDebounced() {
+        when(categoryRepository.findAllTreeRows()).thenReturn(List.of());
+        when(productRepository.findAllCategoryRows()).thenReturn(List.of());
+
+        categoryTreeService.onProductChanged(new ProductChangedEvent(1));
+        categoryTreeService.onProductChanged(new ProductChangedEvent(2));
+        categoryTreeService.onProductChanged(new ProductChangedEvent(3));
+        verify(productRepository, times(0)).findAllCategoryRows();
+
+        categoryTreeService.refreshIfStale();
+        categoryTreeService.refreshIfStale();
+
+        verify(categoryRepository, times(1)).findAllTreeRows();
+        verify(productRepository, times(1)).findAllCategoryRows();
+    }
+
+    @Test
+    @DisplayName("refresh does nothing while the snapshot is current")
+    void refreshSkipsCurrentSnapshot() {
+        categoryTreeService.refreshIfStale();
+
+        verifyNoInteractions(categoryRepository, productRepository);
+    }
+
+    @Test
+    @DisplayName("a scheduled rebuild that read its rows first cannot overwrite the rebuild of a later commit")
+    void olderRebuildDoesNotOverwriteNewerSnapshot() throws Exception {
+        CountDownLatch oldRowsRead = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(productRepository.findAllCategoryRows()).thenReturn(List.of());
+        when(categoryRepository.findAllTreeRows())
+            .thenAnswer(invocation -> {
+                oldRowsRead.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return List.of(category(1, null));
+            })
+            .thenReturn(List.of(category(1, null), category(2, 1)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            categoryTreeService.onProductChanged(new ProductChangedEvent(1));
+            Future<?> scheduled = executor.submit(categoryTreeService::refreshIfStale);
+            assertThat(oldRowsRead.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<?> committed = executor.submit(() -> categoryTreeService
+                .onCategoryTreeChanged(new CategoryTreeChangedEvent("category saved")));
+            Thread.sleep(200);
+            release.countDown();
+            scheduled.get(5, TimeUnit.SECONDS);
+            committed.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(categoryTreeService.findDescendants(1)).extracting(CategoryDto::getCategoryId).contains(2);
+    }
+
+    private static CategoryTreeRow category(final Integer categoryId, final Integer parentCategoryId) {
+        return new CategoryTreeRow() {
+
+            @Override
+            public Integer getCategoryId() {
+                return categoryId;
+            }
+
+            @Override
+            public Integer getParentCategoryId() {
+                return parentCategoryId;
+            }
+
+            @Override
+            public String getCategoryTitle() {
+                return "Category " + categoryId;
+            }
+
+            @Override
+            public String getImageUrl() {
+                return null;
+            }
+        };
+    }
+}
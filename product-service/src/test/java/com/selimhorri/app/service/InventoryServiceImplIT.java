@@ -0,0 +1,134 @@
+package com.selimhorri.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.selimhorri.app.dto.StockLineDto;
+import com.selimhorri.app.dto.StockLineResultDto;
+import com.selimhorri.app.dto.StockLineStatus;
+import com.selimhorri.app.dto.StockReservationDto;
+import com.selimhorri.app.dto.StockReservationResultDto;
+import com.selimhorri.app.repository.ProductStockRepository;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:product_inventory_db;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "eureka.client.enabled=false",
+        "eureka.client.register-with-eureka=false",
+        "eureka.client.fetch-registry=false",
+        "spring.zipkin.enabled=false",
+        "spring.cloud.config.enabled=false",
+        "SPRING_CONFIG_IMPORT=optional:file:./"
+    })
+@ActiveProfiles("dev")
+class InventoryServiceImplIT {
+
+    private static final int CALLERS = 8;
+    private static final int PRODUCT_ID = 2;
+    private static final int OVERSOLD_PRODUCT_ID = 4;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("concurrent releases of one reservation give its stock back exactly once")
+    void concurrentReleasesGiveStockBackOnce() throws Exception {
+        final int before = productStockRepository.findQuantity(PRODUCT_ID).orElseThrow();
+        assertThat(inventoryService.reserve(reservation("it-double-release")).getReserved()).isTrue();
+        assertThat(productStockRepository.findQuantity(PRODUCT_ID)).contains(before - 1);
+
+        final List<StockReservationResultDto> results = concurrently(() -> inventoryService.release("it-double-release"));
+
+        assertThat(productStockRepository.findQuantity(PRODUCT_ID)).contains(before);
+        assertThat(results).allSatisfy(result -> assertThat(result.getLines())
+            .extracting(StockLineResultDto::getStatus)
+            .containsExactly(StockLineStatus.RELEASED));
+    }
+
+    @Test
+    @DisplayName("a commit racing a release either keeps the stock committed or returns it, never both")
+    void commitAndReleaseDoNotBothWin() throws Exception {
+        final int before = productStockRepository.findQuantity(PRODUCT_ID).orElseThrow();
+        inventoryService.reserve(reservation("it-commit-release"));
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final Future<StockReservationResultDto> commit = executor.submit(() -> {
+            start.await();
+            return inventoryService.commit("it-commit-release");
+        });
+        final Future<StockReservationResultDto> release = executor.submit(() -> {
+            start.await();
+            return inventoryService.release("it-commit-release");
+        });
+        start.countDown();
+        commit.get(30, TimeUnit.SECONDS);
+        release.get(30, TimeUnit.SECONDS);
+
+        final StockLineStatus status = inventoryService.findById("it-commit-release").getLines().get(0).getStatus();
+        assertThat(productStockRepository.findQuantity(PRODUCT_ID))
+            .contains(status == StockLineStatus.RELEASED ? before : before - 1);
+    }
+
+    @Test
+    @DisplayName("a hot deduction larger than the stock left drains it to zero and is reported as a shortfall")
+    void deductionBeyondStockIsReportedNotNegative() {
+        final int available = productStockRepository.findQuantity(OVERSOLD_PRODUCT_ID).orElseThrow();
+
+        final Map<Integer, Integer> shortfalls = inventoryService.applyDeductions(Map.of(
+            OVERSOLD_PRODUCT_ID, available + 5,
+            PRODUCT_ID, 0));
+
+        assertThat(shortfalls).containsExactly(Map.entry(OVERSOLD_PRODUCT_ID, available + 5));
+        assertThat(productStockRepository.findQuantity(OVERSOLD_PRODUCT_ID)).contains(0);
+    }
+
+    private <T> List<T> concurrently(final Callable<T> call) throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return call.call();
+            }));
+        }
+        start.countDown();
+        final List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private static StockReservationDto reservation(final String reservationId) {
+        return StockReservationDto.builder()
+            .reservationId(reservationId)
+            .allOrNothing(true)
+            .lines(List.of(new StockLineDto(PRODUCT_ID, 1)))
+            .build();
+    }
+}
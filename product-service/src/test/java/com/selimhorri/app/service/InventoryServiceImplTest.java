@@ -0,0 +1,187 @@
+package com.selimhorri.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.selimhorri.app.config.inventory.InventoryProperties;
+import com.selimhorri.app.domain.ReservationStatus;
+import com.selimhorri.app.domain.StockReservation;
+import com.selimhorri.app.dto.StockLineDto;
+import com.selimhorri.app.dto.StockLineResultDto;
+import com.selimhorri.app.dto.StockLineStatus;
+import com.selimhorri.app.dto.StockReservationDto;
+import com.selimhorri.app.dto.StockReservationResultDto;
+import com.selimhorri.app.event.StockChangedEvent;
+import com.selimhorri.app.exception.wrapper.StockReservationNotFoundException;
+import com.selimhorri.app.inventory.HotStockCounters;
+import com.selimhorri.app.repository.OutboxEventRepository;
+import com.selimhorri.app.repository.ProductStockRepository;
+import com.selimhorri.app.repository.StockReservationRepository;
+import com.selimhorri.app.service.impl.InventoryServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryServiceImplTest {
+
+    @Mock
+    private ProductStockRepository productStockRepository;
+
+    @Mock
+    private StockReservationRepository stockReservationRepository;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Spy
+    private InventoryProperties inventoryProperties = hotProducts(Set.of(7));
+
+    @Spy
+    private HotStockCounters hotStockCounters = new HotStockCounters(hotProducts(Set.of(7)));
+
+    @InjectMocks
+    private InventoryServiceImpl inventoryService;
+
+    @Test
+    @DisplayName("reserve reports a status per line and keeps partial reservations when allowed")
+    void reserveReportsPerLineResults() {
+        when(stockReservationRepository.findByReservationIdOrderByStockReservationIdAsc("order-1")).thenReturn(List.of());
+        when(productStockRepository.reserveAll(anyList())).thenReturn(new int[] { 1, 0, 0 });
+        when(productStockRepository.findQuantity(2)).thenReturn(Optional.of(1));
+        when(productStockRepository.findQuantity(3)).thenReturn(Optional.empty());
+
+        StockReservationResultDto result = inventoryService.reserve(reservation("order-1", false,
+            line(1, 2), line(2, 5), line(3, 1), line(1, 1)));
+
+        assertThat(result.getReserved()).isFalse();
+        assertThat(result.getLines()).extracting(StockLineResultDto::getStatus)
+            .containsExactly(StockLineStatus.RESERVED, StockLineStatus.INSUFFICIENT_STOCK, StockLineStatus.NOT_FOUND);
+        assertThat(result.getLines().get(0).getQuantity()).isEqualTo(3);
+        verify(stockReservationRepository).saveAllAndFlush(anyList());
+        verify(productStockRepository, never()).releaseAll(any());
+        verify(outboxEventRepository).saveAll(anyList());
+        verify(applicationEventPublisher).publishEvent(new StockChangedEvent(Set.of(1)));
+    }
+
+    @Test
+    @DisplayName("all-or-nothing reserve gives back every reserved line when one fails")
+    void reserveRollsBackWhenIncomplete() {
+        when(stockReservationRepository.findByReservationIdOrderByStockReservationIdAsc("order-2")).thenReturn(List.of());
+        when(productStockRepository.findQuantity(7)).thenReturn(Optional.of(10));
+        when(productStockRepository.reserveAll(anyList())).thenReturn(new int[] { 1, 0 });
+        when(productStockRepository.findQuantity(2)).thenReturn(Optional.of(0));
+
+        StockReservationResultDto result = inventoryService.reserve(reservation("order-2", true,
+            line(7, 4), line(1, 1), line(2, 1)));
+
+        assertThat(result.getLines()).extracting(StockLineResultDto::getStatus)
+            .containsExactly(StockLineStatus.ROLLED_BACK, StockLineStatus.ROLLED_BACK, StockLineStatus.INSUFFICIENT_STOCK);
+        assertThat(hotStockCounters.find(7).orElseThrow().available()).isEqualTo(10);
+        verify(productStockRepository).releaseAll(List.of(line(1, 1)));
+        verify(stockReservationRepository, never()).saveAllAndFlush(anyList());
+        verify(applicationEventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("hot stock of a rolled back reserve is given back exactly once, after completion")
+    void rolledBackHotStockIsGivenBackOnce() {
+        when(stockReservationRepository.findByReservationIdOrderByStockReservationIdAsc("order-4")).thenReturn(List.of());
+        when(productStockRepository.findQuantity(7)).thenReturn(Optional.of(10));
+        when(productStockRepository.reserveAll(anyList())).thenReturn(new int[] { 0 });
+        when(productStockRepository.findQuantity(2)).thenReturn(Optional.of(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            inventoryService.reserve(reservation("order-4", true, line(7, 4), line(2, 1)));
+            assertThat(hotStockCounters.find(7).orElseThrow().available()).isEqualTo(6);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(hotStockCounters.find(7).orElseThrow().available()).isEqualTo(10);
+        assertThat(hotStockCounters.drainPending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("release returns reserved stock and marks the lines released")
+    void releaseReturnsStock() {
+        when(stockReservationRepository.lockByReservationId("order-3"))
+            .thenReturn(List.of(StockReservation.builder()
+                .reservationId("order-3")
+                .productId(1)
+                .quantity(2)
+                .hot(false)
+                .reservationStatus(ReservationStatus.RESERVED)
+                .build()));
+        when(stockReservationRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        StockReservationResultDto result = inventoryService.release("order-3");
+
+        assertThat(result.getLines()).extracting(StockLineResultDto::getStatus).containsExactly(StockLineStatus.RELEASED);
+        verify(productStockRepository).releaseAll(List.of(line(1, 2)));
+        verify(applicationEventPublisher).publishEvent(new StockChangedEvent(Set.of(1)));
+    }
+
+    @Test
+    @DisplayName("flushed hot deductions invalidate remote caches and the search index")
+    void applyDeductionsPublishesStockChange() {
+        inventoryService.applyDeductions(Map.of(7, 3));
+
+        verify(productStockRepository).deductAll(Map.of(7, 3));
+        verify(outboxEventRepository).saveAll(anyList());
+        verify(applicationEventPublisher).publishEvent(new StockChangedEvent(Set.of(7)));
+    }
+
+    @Test
+    @DisplayName("commit of an unknown reservation throws StockReservationNotFoundException")
+    void commitUnknownReservationThrows() {
+        when(stockReservationRepository.lockByReservationId("missing")).thenReturn(List.of());
+
+        assertThatThrownBy(() -> inventoryService.commit("missing"))
+            .isInstanceOf(StockReservationNotFoundException.class);
+    }
+
+    private static InventoryProperties hotProducts(final Set<Integer> productIds) {
+        InventoryProperties properties = new InventoryProperties();
+        properties.setHotProductIds(productIds);
+        return properties;
+    }
+
+    private static StockReservationDto reservation(final String reservationId, final boolean allOrNothing,
+            final StockLineDto... lines) {
+        return StockReservationDto.builder()
+            .reservationId(reservationId)
+            .allOrNothing(allOrNothing)
+            .lines(List.of(lines))
+            .build();
+    }
+
+    private static StockLineDto line(final int productId, final int quantity) {
+        return new StockLineDto(productId, quantity);
+    }
+}
@@ -3,6 +3,7 @@ package com.selimhorri.app.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -16,10 +17,15 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.OutboxEvent;
 import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
+import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.repository.OutboxEventRepository;
 import com.selimhorri.app.repository.ProductRepository;
 import com.selimhorri.app.service.impl.ProductServiceImpl;
 
@@ -29,6 +35,12 @@ class ProductServiceImplTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -59,6 +71,24 @@ class ProductServiceImplTest {
         Product deleted = captor.getValue();
         assertThat(deleted.getProductId()).isEqualTo(5);
         assertThat(deleted.getSku()).isEqualTo("SKU-123");
+
+        ArgumentCaptor<OutboxEvent> outbox = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(outbox.capture());
+        assertThat(outbox.getValue().getCacheName()).isEqualTo(AppConstant.PRODUCT_CACHE);
+        assertThat(outbox.getValue().getEntityId()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("save records an outbox event so replicas index the new product")
+    void saveRecordsInvalidation() {
+        when(productRepository.save(any(Product.class))).thenReturn(sampleProduct());
+
+        productService.save(ProductMappingHelper.map(sampleProduct()));
+
+        ArgumentCaptor<OutboxEvent> outbox = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(outbox.capture());
+        assertThat(outbox.getValue().getCacheName()).isEqualTo(AppConstant.PRODUCT_CACHE);
+        assertThat(outbox.getValue().getEntityId()).isEqualTo(5);
     }
 
     @Test
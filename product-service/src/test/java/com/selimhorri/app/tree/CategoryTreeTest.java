@@ -0,0 +1,94 @@
+package com.selimhorri.app.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.repository.projection.CategoryTreeRow;
+import com.selimhorri.app.repository.projection.ProductCategoryRow;
+
+class CategoryTreeTest {
+
+    private final CategoryTree tree = CategoryTree.of(
+        List.of(
+            category(1, null, "Electronics"),
+            category(2, 1, "Phones"),
+            category(3, 2, "Smartphones"),
+            category(4, 1, "Laptops"),
+            category(5, null, "Books")),
+        List.of(
+            product(30, 3),
+            product(10, 1),
+            product(20, 2),
+            product(40, 4),
+            product(50, 5)));
+
+    @Test
+    @DisplayName("descendants walks the whole subtree breadth first")
+    void descendantsWalksSubtree() {
+        assertThat(tree.descendants(1)).extracting(CategoryDto::getCategoryId).containsExactly(2, 4, 3);
+        assertThat(tree.descendants(3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("pathToRoot climbs parents up to the root category")
+    void pathToRootClimbsParents() {
+        List<CategoryDto> path = tree.pathToRoot(3);
+
+        assertThat(path).extracting(CategoryDto::getCategoryTitle).containsExactly("Smartphones", "Phones", "Electronics");
+        assertThat(path.get(0).getParentCategoryDto().getCategoryId()).isEqualTo(2);
+        assertThat(path.get(2).getParentCategoryDto()).isNull();
+    }
+
+    @Test
+    @DisplayName("productIdsInSubtree collects products of every descendant, sorted")
+    void productIdsInSubtreeCollectsDescendants() {
+        assertThat(tree.productIdsInSubtree(1)).containsExactly(10, 20, 30, 40);
+        assertThat(tree.productIdsInSubtree(5)).containsExactly(50);
+        assertThat(tree.productIdsInSubtree(99)).isEmpty();
+    }
+
+    private static CategoryTreeRow category(final Integer categoryId, final Integer parentCategoryId, final String title) {
+        return new CategoryTreeRow() {
+
+            @Override
+            public Integer getCategoryId() {
+                return categoryId;
+            }
+
+            @Override
+            public Integer getParentCategoryId() {
+                return parentCategoryId;
+            }
+
+            @Override
+            public String getCategoryTitle() {
+                return title;
+            }
+
+            @Override
+            public String getImageUrl() {
+                return null;
+            }
+        };
+    }
+
+    private static ProductCategoryRow product(final Integer productId, final Integer categoryId) {
+        return new ProductCategoryRow() {
+
+            @Override
+            public Integer getProductId() {
+                return productId;
+            }
+
+            @Override
+            public Integer getCategoryId() {
+                return categoryId;
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.selimhorri.app.business.checkout.model.request;
+
+import java.io.Serializable;
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class CheckoutRequest implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@NotNull(message = "*Cart id must not be null!**")
+	private Integer cartId;
+	
+	private String orderDesc;
+	private Double orderFee;
+	
+	@NotEmpty(message = "*Checkout lines must not be empty!**")
+	private List<@Valid Line> lines;
+	
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Data
+	@Builder
+	public static class Line implements Serializable {
+		
+		private static final long serialVersionUID = 1L;
+		
+		@NotNull(message = "*Product id must not be null!**")
+		private Integer productId;
+		
+		@NotNull(message = "*Ordered quantity must not be null!**")
+		@Positive(message = "*Ordered quantity must be positive!**")
+		private Integer orderedQuantity;
+		
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
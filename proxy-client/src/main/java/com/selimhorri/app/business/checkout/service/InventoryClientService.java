@@ -0,0 +1,40 @@
+package com.selimhorri.app.business.checkout.service;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import com.selimhorri.app.business.checkout.model.StockReservationDto;
+import com.selimhorri.app.business.checkout.model.StockReservationResultDto;
+
+@FeignClient(name = "PRODUCT-SERVICE", contextId = "inventoryClientService", path = "/product-service/api/inventory/reservations")
+public interface InventoryClientService {
+	
+	@PostMapping
+	ResponseEntity<StockReservationResultDto> reserve(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final StockReservationDto stockReservationDto);
+	
+	@PostMapping("/{reservationId}/commit")
+	ResponseEntity<StockReservationResultDto> commit(@PathVariable("reservationId") final String reservationId);
+	
+	@PostMapping("/{reservationId}/release")
+	ResponseEntity<StockReservationResultDto> release(@PathVariable("reservationId") final String reservationId);
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,168 @@
+package com.selimhorri.app.business.checkout.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.selimhorri.app.business.checkout.model.StockLineDto;
+import com.selimhorri.app.business.checkout.model.StockReservationDto;
+import com.selimhorri.app.business.checkout.model.StockReservationResultDto;
+import com.selimhorri.app.business.checkout.model.request.CheckoutRequest;
+import com.selimhorri.app.business.checkout.model.response.CheckoutResponse;
+import com.selimhorri.app.business.checkout.service.CheckoutService;
+import com.selimhorri.app.business.checkout.service.InventoryClientService;
+import com.selimhorri.app.business.order.model.CartDto;
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.payment.model.PaymentStatus;
+import com.selimhorri.app.business.payment.service.PaymentClientService;
+import com.selimhorri.app.exception.wrapper.CheckoutFailedException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CheckoutServiceImpl implements CheckoutService {
+	
+	private final InventoryClientService inventoryClientService;
+	private final OrderClientService orderClientService;
+	private final OrderItemClientService orderItemClientService;
+	private final PaymentClientService paymentClientService;
+	private final ExecutorService checkoutExecutor;
+	
+	@Override
+	public CheckoutResponse checkout(final CheckoutRequest checkoutRequest) {
+		log.info("*** CheckoutResponse, service; checkout cart *");
+		final String reservationId = UUID.randomUUID().toString();
+		final Deque<Runnable> compensations = new ArrayDeque<>();
+		
+		final CompletableFuture<StockReservationResultDto> reservationFuture = this.supply(() -> this.inventoryClientService
+				.reserve(StockReservationDto.builder()
+						.reservationId(reservationId)
+						.allOrNothing(true)
+						.lines(checkoutRequest.getLines().stream()
+								.map(line -> new StockLineDto(line.getProductId(), line.getOrderedQuantity()))
+								.collect(Collectors.toUnmodifiableList()))
+						.build())
+				.getBody());
+		final CompletableFuture<OrderDto> orderFuture = this.supply(() -> this.orderClientService
+				.save(OrderDto.builder()
+						.orderDate(LocalDateTime.now())
+						.orderDesc(checkoutRequest.getOrderDesc())
+						.orderFee(checkoutRequest.getOrderFee())
+						.cartDto(CartDto.builder()
+								.cartId(checkoutRequest.getCartId())
+								.build())
+						.build())
+				.getBody());
+		
+		final StockReservationResultDto reservation = await(reservationFuture, "stock reservation");
+		final OrderDto orderDto = await(orderFuture, "order creation");
+		if (reservation != null && Boolean.TRUE.equals(reservation.getReserved())) {
+			compensations.push(() -> this.inventoryClientService.release(reservationId));
+		}
+		if (orderDto != null) {
+			compensations.push(() -> this.orderClientService.deleteById(String.valueOf(orderDto.getOrderId())));
+		}
+		if (reservation == null || !Boolean.TRUE.equals(reservation.getReserved()) || orderDto == null) {
+			throw this.fail(compensations, reservation == null || Boolean.TRUE.equals(reservation.getReserved()) ? 
+					"Checkout failed, order could not be placed" 
+					: String.format("Checkout failed, stock unavailable: %s", reservation.getLines()));
+		}
+		
+		final Integer orderId = orderDto.getOrderId();
+		final CompletableFuture<Collection<OrderItemDto>> orderItemsFuture = this.supply(() -> this.orderItemClientService
+				.saveAll(checkoutRequest.getLines().stream()
+						.map(line -> OrderItemDto.builder()
+								.orderId(orderId)
+								.productId(line.getProductId())
+								.orderedQuantity(line.getOrderedQuantity())
+								.build())
+						.collect(Collectors.toUnmodifiableList()))
+				.getBody()
+				.getCollection());
+		final CompletableFuture<PaymentDto> paymentFuture = this.supply(() -> this.paymentClientService
+				.save(PaymentDto.builder()
+						.isPayed(false)
+						.paymentStatus(PaymentStatus.NOT_STARTED)
+						.orderDto(com.selimhorri.app.business.payment.model.OrderDto.builder()
+								.orderId(orderId)
+								.build())
+						.build())
+				.getBody());
+		
+		final Collection<OrderItemDto> orderItemDtos = await(orderItemsFuture, "order items creation");
+		final PaymentDto paymentDto = await(paymentFuture, "payment creation");
+		compensations.push(() -> this.orderItemClientService.deleteByOrderId(String.valueOf(orderId)));
+		if (paymentDto != null) {
+			compensations.push(() -> this.paymentClientService.deleteById(String.valueOf(paymentDto.getPaymentId())));
+		}
+		if (orderItemDtos == null || paymentDto == null) {
+			throw this.fail(compensations, "Checkout failed, order items or payment could not be created");
+		}
+		
+		if (await(this.supply(() -> this.inventoryClientService.commit(reservationId).getBody()), "stock commit") == null) {
+			throw this.fail(compensations, "Checkout failed, stock reservation could not be committed");
+		}
+		
+		return CheckoutResponse.builder()
+				.reservationId(reservationId)
+				.orderDto(orderDto)
+				.orderItemDtos(orderItemDtos)
+				.paymentDto(paymentDto)
+				.build();
+	}
+	
+	private <T> CompletableFuture<T> supply(final Supplier<T> supplier) {
+		return CompletableFuture.supplyAsync(supplier, this.checkoutExecutor);
+	}
+	
+	private static <T> T await(final CompletableFuture<T> future, final String step) {
+		return future.handle((result, throwable) -> {
+			if (throwable != null) {
+				log.warn("*** CheckoutResponse, service; {} failed: {} *", step, throwable.toString());
+				return null;
+			}
+			return result;
+		}).join();
+	}
+	
+	private CheckoutFailedException fail(final Deque<Runnable> compensations, final String message) {
+		while (!compensations.isEmpty()) {
+			try {
+				compensations.pop().run();
+			}
+			catch (RuntimeException e) {
+				log.error("*** CheckoutResponse, service; compensation failed: {} *", e.toString());
+			}
+		}
+		return new CheckoutFailedException(message);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
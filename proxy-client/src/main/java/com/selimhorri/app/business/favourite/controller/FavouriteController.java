@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.favourite.controller;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,6 +10,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.favourite.model.FavouriteDto;
@@ -25,8 +28,11 @@ public class FavouriteController {
 	private final FavouriteClientService favouriteClientService;
 	
 	@GetMapping
-	public ResponseEntity<FavouriteFavouriteServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.favouriteClientService.findAll().getBody());
+	public ResponseEntity<FavouriteFavouriteServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "sort", required = false) final List<String> sort) {
+		return ResponseEntity.ok(this.favouriteClientService.findAll(page, size, sort).getBody());
 	}
 	
 	@GetMapping("/{userId}/{productId}/{likeDate}")
@@ -47,6 +53,11 @@ public class FavouriteController {
 		return ResponseEntity.ok(this.favouriteClientService.save(favouriteDto).getBody());
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<FavouriteFavouriteServiceCollectionDtoResponse> saveAll(@RequestBody final List<FavouriteDto> favouriteDtos) {
+		return ResponseEntity.ok(this.favouriteClientService.saveAll(favouriteDtos).getBody());
+	}
+	
 	@PutMapping
 	public ResponseEntity<FavouriteDto> update(@RequestBody final FavouriteDto favouriteDto) {
 		return ResponseEntity.ok(this.favouriteClientService.update(favouriteDto).getBody());
@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.favourite.service;
 
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
@@ -11,6 +13,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.favourite.model.FavouriteDto;
 import com.selimhorri.app.business.favourite.model.FavouriteId;
@@ -20,7 +23,10 @@ import com.selimhorri.app.business.favourite.model.response.FavouriteFavouriteSe
 public interface FavouriteClientService {
 	
 	@GetMapping
-	ResponseEntity<FavouriteFavouriteServiceCollectionDtoResponse> findAll();
+	ResponseEntity<FavouriteFavouriteServiceCollectionDtoResponse> findAll(
+			@RequestParam(value = "page", required = false) final Integer page, 
+			@RequestParam(value = "size", required = false) final Integer size, 
+			@RequestParam(value = "sort", required = false) final List<String> sort);
 	
 	@GetMapping("/{userId}/{productId}/{likeDate}")
 	public ResponseEntity<FavouriteDto> findById(
@@ -40,6 +46,12 @@ public interface FavouriteClientService {
 			@NotNull(message = "Input must not be NULL") 
 			@Valid final FavouriteDto favouriteDto);
 	
+	@PostMapping("/batch")
+	public ResponseEntity<FavouriteFavouriteServiceCollectionDtoResponse> saveAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final List<FavouriteDto> favouriteDtos);
+	
 	@PutMapping
 	public ResponseEntity<FavouriteDto> update(
 			@RequestBody 
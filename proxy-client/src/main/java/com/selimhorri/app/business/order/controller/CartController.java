@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.order.controller;
 
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.order.model.CartDto;
@@ -28,8 +31,21 @@ public class CartController {
 	private final CartClientService cartClientService;
 	
 	@GetMapping
-	public ResponseEntity<CartOrderServiceDtoCollectionResponse> findAll() {
-		return ResponseEntity.ok(this.cartClientService.findAll().getBody());
+	public ResponseEntity<CartOrderServiceDtoCollectionResponse> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "sort", required = false) final List<String> sort, 
+			@RequestParam(name = "after", required = false) final Integer after) {
+		return ResponseEntity.ok(this.cartClientService.findAll(page, size, sort, after).getBody());
+	}
+	
+	@GetMapping("/users/{userId}")
+	public ResponseEntity<CartOrderServiceDtoCollectionResponse> findAllByUserId(
+			@PathVariable("userId") final String userId, 
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "sort", required = false) final List<String> sort) {
+		return ResponseEntity.ok(this.cartClientService.findAllByUserId(userId, page, size, sort).getBody());
 	}
 	
 	@GetMapping("/{cartId}")
@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.order.controller;
 
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.order.model.OrderDto;
@@ -28,8 +31,34 @@ public class OrderController {
 	private final OrderClientService orderClientService;
 	
 	@GetMapping
-	public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAll() {
-		return ResponseEntity.ok(this.orderClientService.findAll().getBody());
+	public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "sort", required = false) final List<String> sort, 
+			@RequestParam(name = "after", required = false) final Integer after) {
+		return ResponseEntity.ok(this.orderClientService.findAll(page, size, sort, after).getBody());
+	}
+	
+	@GetMapping("/carts/{cartId}")
+	public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAllByCartId(
+			@PathVariable("cartId") final String cartId, 
+			@RequestParam(name = "from", required = false) final String from, 
+			@RequestParam(name = "to", required = false) final String to, 
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "sort", required = false) final List<String> sort) {
+		return ResponseEntity.ok(this.orderClientService.findAllByCartId(cartId, from, to, page, size, sort).getBody());
+	}
+	
+	@GetMapping("/users/{userId}")
+	public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAllByUserId(
+			@PathVariable("userId") final String userId, 
+			@RequestParam(name = "from", required = false) final String from, 
+			@RequestParam(name = "to", required = false) final String to, 
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "sort", required = false) final List<String> sort) {
+		return ResponseEntity.ok(this.orderClientService.findAllByUserId(userId, from, to, page, size, sort).getBody());
 	}
 	
 	@GetMapping("/{orderId}")
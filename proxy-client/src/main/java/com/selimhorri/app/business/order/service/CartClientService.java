@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.order.service;
 
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.order.model.CartDto;
 import com.selimhorri.app.business.order.model.response.CartOrderServiceDtoCollectionResponse;
@@ -20,7 +23,18 @@ import com.selimhorri.app.business.order.model.response.CartOrderServiceDtoColle
 public interface CartClientService {
 	
 	@GetMapping
-	public ResponseEntity<CartOrderServiceDtoCollectionResponse> findAll();
+	public ResponseEntity<CartOrderServiceDtoCollectionResponse> findAll(
+			@RequestParam(value = "page", required = false) final Integer page, 
+			@RequestParam(value = "size", required = false) final Integer size, 
+			@RequestParam(value = "sort", required = false) final List<String> sort, 
+			@RequestParam(value = "after", required = false) final Integer after);
+	
+	@GetMapping("/users/{userId}")
+	public ResponseEntity<CartOrderServiceDtoCollectionResponse> findAllByUserId(
+			@PathVariable("userId") final String userId, 
+			@RequestParam(value = "page", required = false) final Integer page, 
+			@RequestParam(value = "size", required = false) final Integer size, 
+			@RequestParam(value = "sort", required = false) final List<String> sort);
 	
 	@GetMapping("/{cartId}")
 	public ResponseEntity<CartDto> findById(
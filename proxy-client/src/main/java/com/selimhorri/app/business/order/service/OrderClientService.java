@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.order.service;
 
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.order.model.OrderDto;
 import com.selimhorri.app.business.order.model.response.OrderOrderServiceDtoCollectionResponse;
@@ -20,7 +23,29 @@ import com.selimhorri.app.business.order.model.response.OrderOrderServiceDtoColl
 public interface OrderClientService {
 	
 	@GetMapping
-	public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAll();
+	public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAll(
+			@RequestParam(value = "page", required = false) final Integer page, 
+			@RequestParam(value = "size", required = false) final Integer size, 
+			@RequestParam(value = "sort", required = false) final List<String> sort, 
+			@RequestParam(value = "after", required = false) final Integer after);
+	
+	@GetMapping("/carts/{cartId}")
+	public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAllByCartId(
+			@PathVariable("cartId") final String cartId, 
+			@RequestParam(value = "from", required = false) final String from, 
+			@RequestParam(value = "to", required = false) final String to, 
+			@RequestParam(value = "page", required = false) final Integer page, 
+			@RequestParam(value = "size", required = false) final Integer size, 
+			@RequestParam(value = "sort", required = false) final List<String> sort);
+	
+	@GetMapping("/users/{userId}")
+	public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAllByUserId(
+			@PathVariable("userId") final String userId, 
+			@RequestParam(value = "from", required = false) final String from, 
+			@RequestParam(value = "to", required = false) final String to, 
+			@RequestParam(value = "page", required = false) final Integer page, 
+			@RequestParam(value = "size", required = false) final Integer size, 
+			@RequestParam(value = "sort", required = false) final List<String> sort);
 	
 	@GetMapping("/{orderId}")
 	public ResponseEntity<OrderDto> findById(
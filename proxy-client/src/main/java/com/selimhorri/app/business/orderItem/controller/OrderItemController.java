@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.orderItem.controller;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,6 +10,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.orderItem.model.OrderItemDto;
@@ -25,8 +28,20 @@ public class OrderItemController {
 	private final OrderItemClientService orderItemClientService;
 	
 	@GetMapping
-	public ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> findAll() {
-		return ResponseEntity.ok(this.orderItemClientService.findAll().getBody());
+	public ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "sort", required = false) final List<String> sort) {
+		return ResponseEntity.ok(this.orderItemClientService.findAll(page, size, sort).getBody());
+	}
+	
+	@GetMapping("/orders/{orderId}")
+	public ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> findAllByOrderId(
+			@PathVariable("orderId") final String orderId, 
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "sort", required = false) final List<String> sort) {
+		return ResponseEntity.ok(this.orderItemClientService.findAllByOrderId(orderId, page, size, sort).getBody());
 	}
 	
 	@GetMapping("/{orderId}/{productId}")
@@ -47,6 +62,11 @@ public class OrderItemController {
 		return ResponseEntity.ok(this.orderItemClientService.save(orderItemDto).getBody());
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> saveAll(@RequestBody final List<OrderItemDto> orderItemDtos) {
+		return ResponseEntity.ok(this.orderItemClientService.saveAll(orderItemDtos).getBody());
+	}
+	
 	@PutMapping
 	public ResponseEntity<OrderItemDto> update(@RequestBody final OrderItemDto orderItemDto) {
 		return ResponseEntity.ok(this.orderItemClientService.update(orderItemDto).getBody());
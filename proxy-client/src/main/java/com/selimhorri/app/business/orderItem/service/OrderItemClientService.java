@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.orderItem.service;
 
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
@@ -11,6 +13,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.orderItem.model.OrderItemDto;
 import com.selimhorri.app.business.orderItem.model.OrderItemId;
@@ -20,7 +23,17 @@ import com.selimhorri.app.business.orderItem.model.response.OrderItemOrderItemSe
 public interface OrderItemClientService {
 	
 	@GetMapping
-	ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> findAll();
+	ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> findAll(
+			@RequestParam(value = "page", required = false) final Integer page, 
+			@RequestParam(value = "size", required = false) final Integer size, 
+			@RequestParam(value = "sort", required = false) final List<String> sort);
+	
+	@GetMapping("/orders/{orderId}")
+	ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> findAllByOrderId(
+			@PathVariable("orderId") final String orderId, 
+			@RequestParam(value = "page", required = false) final Integer page, 
+			@RequestParam(value = "size", required = false) final Integer size, 
+			@RequestParam(value = "sort", required = false) final List<String> sort);
 	
 	@GetMapping("/{orderId}/{productId}")
 	ResponseEntity<OrderItemDto> findById(
@@ -39,6 +52,12 @@ public interface OrderItemClientService {
 			@NotNull(message = "Input must not be NULL") 
 			@Valid final OrderItemDto orderItemDto);
 	
+	@PostMapping("/batch")
+	ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> saveAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final List<OrderItemDto> orderItemDtos);
+	
 	@PutMapping
 	ResponseEntity<OrderItemDto> update(
 			@RequestBody 
@@ -50,6 +69,9 @@ public interface OrderItemClientService {
 			@PathVariable("orderId") final String orderId, 
 			@PathVariable("productId") final String productId);
 	
+	@DeleteMapping("/orders/{orderId}")
+	ResponseEntity<Boolean> deleteByOrderId(@PathVariable("orderId") final String orderId);
+	
 	@DeleteMapping("/delete")
 	ResponseEntity<Boolean> deleteById(
 			@RequestBody 
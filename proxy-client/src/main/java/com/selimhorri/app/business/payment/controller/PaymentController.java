@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.payment.controller;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,6 +10,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.payment.model.PaymentDto;
@@ -24,8 +27,21 @@ public class PaymentController {
 	private final PaymentClientService paymentClientService;
 	
 	@GetMapping
-	public ResponseEntity<PaymentPaymentServiceDtoCollectionResponse> findAll() {
-		return ResponseEntity.ok(this.paymentClientService.findAll().getBody());
+	public ResponseEntity<PaymentPaymentServiceDtoCollectionResponse> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "sort", required = false) final List<String> sort, 
+			@RequestParam(name = "after", required = false) final Integer after) {
+		return ResponseEntity.ok(this.paymentClientService.findAll(page, size, sort, after).getBody());
+	}
+	
+	@GetMapping("/orders/{orderId}")
+	public ResponseEntity<PaymentPaymentServiceDtoCollectionResponse> findAllByOrderId(
+			@PathVariable("orderId") final String orderId, 
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "sort", required = false) final List<String> sort) {
+		return ResponseEntity.ok(this.paymentClientService.findAllByOrderId(orderId, page, size, sort).getBody());
 	}
 	
 	@GetMapping("/{paymentId}")
@@ -38,6 +54,11 @@ public class PaymentController {
 		return ResponseEntity.ok(this.paymentClientService.save(paymentDto).getBody());
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<PaymentPaymentServiceDtoCollectionResponse> saveAll(@RequestBody final List<PaymentDto> paymentDtos) {
+		return ResponseEntity.ok(this.paymentClientService.saveAll(paymentDtos).getBody());
+	}
+	
 	@PutMapping
 	public ResponseEntity<PaymentDto> update(@RequestBody final PaymentDto paymentDto) {
 		return ResponseEntity.ok(this.paymentClientService.update(paymentDto).getBody());
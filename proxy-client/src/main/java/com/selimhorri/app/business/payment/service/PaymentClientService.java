@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.payment.service;
 
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.payment.model.PaymentDto;
 import com.selimhorri.app.business.payment.model.response.PaymentPaymentServiceDtoCollectionResponse;
@@ -20,7 +23,18 @@ import com.selimhorri.app.business.payment.model.response.PaymentPaymentServiceD
 public interface PaymentClientService {
 	
 	@GetMapping
-	public ResponseEntity<PaymentPaymentServiceDtoCollectionResponse> findAll();
+	public ResponseEntity<PaymentPaymentServiceDtoCollectionResponse> findAll(
+			@RequestParam(value = "page", required = false) final Integer page, 
+			@RequestParam(value = "size", required = false) final Integer size, 
+			@RequestParam(value = "sort", required = false) final List<String> sort, 
+			@RequestParam(value = "after", required = false) final Integer after);
+	
+	@GetMapping("/orders/{orderId}")
+	public ResponseEntity<PaymentPaymentServiceDtoCollectionResponse> findAllByOrderId(
+			@PathVariable("orderId") final String orderId, 
+			@RequestParam(value = "page", required = false) final Integer page, 
+			@RequestParam(value = "size", required = false) final Integer size, 
+			@RequestParam(value = "sort", required = false) final List<String> sort);
 	
 	@GetMapping("/{paymentId}")
 	public ResponseEntity<PaymentDto> findById(
@@ -34,6 +48,12 @@ public interface PaymentClientService {
 			@NotNull(message = "Input must not be NULL!") 
 			@Valid final PaymentDto paymentDto);
 	
+	@PostMapping("/batch")
+	public ResponseEntity<PaymentPaymentServiceDtoCollectionResponse> saveAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final List<PaymentDto> paymentDtos);
+	
 	@PutMapping
 	public ResponseEntity<PaymentDto> update(
 			@RequestBody 
@@ -0,0 +1,26 @@
+package com.selimhorri.app.business.product.controller;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+
+import com.selimhorri.app.constant.AppConstant;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Explicit Cache-Control for the anonymous catalog reads: Spring Security only writes its 
+ * default no-store headers when the response has none, so setting one here keeps these 
+ * responses cacheable by the gateway.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class CatalogCacheControl {
+	
+	static CacheControl publicCatalog() {
+		return CacheControl.maxAge(AppConstant.CATALOG_MAX_AGE_SECONDS, TimeUnit.SECONDS)
+				.cachePublic()
+				.staleWhileRevalidate(AppConstant.CATALOG_STALE_WHILE_REVALIDATE_SECONDS, TimeUnit.SECONDS);
+	}
+	
+}
@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.product.controller;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,11 +10,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.selimhorri.app.business.product.model.CategoryDto;
 import com.selimhorri.app.business.product.model.response.CategoryProductServiceCollectionDtoResponse;
+import com.selimhorri.app.business.product.model.response.ProductProductServiceCollectionDtoResponse;
 import com.selimhorri.app.business.product.service.CategoryClientService;
+import com.selimhorri.app.config.collapse.RequestCollapser;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,15 +28,60 @@ import lombok.RequiredArgsConstructor;
 public class CategoryController {
 	
 	private final CategoryClientService categoryClientService;
+	private final RequestCollapser requestCollapser;
 	
 	@GetMapping
-	public ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.categoryClientService.findAll().getBody());
+	public ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "sort", required = false) final List<String> sort, 
+			@RequestParam(name = "after", required = false) final Integer after) {
+		return ResponseEntity.ok()
+				.cacheControl(CatalogCacheControl.publicCatalog())
+				.body(this.categoryClientService.findAll(page, size, sort, after).getBody());
 	}
 	
 	@GetMapping("/{categoryId}")
-	public ResponseEntity<CategoryDto> findById(@PathVariable("categoryId") final String categoryId) {
-		return ResponseEntity.ok(this.categoryClientService.findById(categoryId).getBody());
+	public ResponseEntity<CategoryDto> findById(@PathVariable("categoryId") final String categoryId, final WebRequest webRequest) {
+		final ResponseEntity<CategoryDto> response = this.requestCollapser.collapse("category", categoryId, 
+				() -> this.categoryClientService.findById(categoryId));
+		final String eTag = response.getHeaders().getETag();
+		if (eTag == null) {
+			return ResponseEntity.ok()
+					.cacheControl(CatalogCacheControl.publicCatalog())
+					.body(response.getBody());
+		}
+		if (webRequest.checkNotModified(eTag)) {
+			return null;
+		}
+		return ResponseEntity.ok()
+				.cacheControl(CatalogCacheControl.publicCatalog())
+				.eTag(eTag)
+				.body(response.getBody());
+	}
+	
+	@GetMapping("/{categoryId}/descendants")
+	public ResponseEntity<CategoryProductServiceCollectionDtoResponse> findDescendants(@PathVariable("categoryId") final String categoryId) {
+		return ResponseEntity.ok()
+				.cacheControl(CatalogCacheControl.publicCatalog())
+				.body(this.categoryClientService.findDescendants(categoryId).getBody());
+	}
+	
+	@GetMapping("/{categoryId}/path")
+	public ResponseEntity<CategoryProductServiceCollectionDtoResponse> findPathToRoot(@PathVariable("categoryId") final String categoryId) {
+		return ResponseEntity.ok()
+				.cacheControl(CatalogCacheControl.publicCatalog())
+				.body(this.categoryClientService.findPathToRoot(categoryId).getBody());
+	}
+	
+	@GetMapping("/{categoryId}/products")
+	public ResponseEntity<ProductProductServiceCollectionDtoResponse> findProductsInSubtree(
+			@PathVariable("categoryId") final String categoryId, 
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size) {
+		return ResponseEntity.ok()
+				.cacheControl(CatalogCacheControl.publicCatalog())
+				.body(this.categoryClientService.findProductsInSubtree(categoryId, page, size).getBody());
 	}
 	
 	@PostMapping
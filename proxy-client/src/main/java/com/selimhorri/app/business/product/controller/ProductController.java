@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.product.controller;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,11 +10,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.selimhorri.app.business.product.model.ProductDto;
 import com.selimhorri.app.business.product.model.response.ProductProductServiceCollectionDtoResponse;
 import com.selimhorri.app.business.product.service.ProductClientService;
+import com.selimhorri.app.config.collapse.RequestCollapser;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,15 +27,49 @@ import lombok.RequiredArgsConstructor;
 public class ProductController {
 	
 	private final ProductClientService productClientService;
+	private final RequestCollapser requestCollapser;
 	
 	@GetMapping
-	public ResponseEntity<ProductProductServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.productClientService.findAll().getBody());
+	public ResponseEntity<ProductProductServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "sort", required = false) final List<String> sort, 
+			@RequestParam(name = "after", required = false) final Integer after) {
+		return ResponseEntity.ok()
+				.cacheControl(CatalogCacheControl.publicCatalog())
+				.body(this.productClientService.findAll(page, size, sort, after).getBody());
+	}
+	
+	@GetMapping("/search")
+	public ResponseEntity<ProductProductServiceCollectionDtoResponse> search(
+			@RequestParam(name = "q", required = false) final String query, 
+			@RequestParam(name = "category", required = false) final Integer categoryId, 
+			@RequestParam(name = "minPrice", required = false) final Double minPrice, 
+			@RequestParam(name = "maxPrice", required = false) final Double maxPrice, 
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size) {
+		return ResponseEntity.ok()
+				.cacheControl(CatalogCacheControl.publicCatalog())
+				.body(this.productClientService.search(query, categoryId, minPrice, maxPrice, page, size).getBody());
 	}
 	
 	@GetMapping("/{productId}")
-	public ResponseEntity<ProductDto> findById(@PathVariable("productId") final String productId) {
-		return ResponseEntity.ok(this.productClientService.findById(productId).getBody());
+	public ResponseEntity<ProductDto> findById(@PathVariable("productId") final String productId, final WebRequest webRequest) {
+		final ResponseEntity<ProductDto> response = this.requestCollapser.collapse("product", productId, 
+				() -> this.productClientService.findById(productId));
+		final String eTag = response.getHeaders().getETag();
+		if (eTag == null) {
+			return ResponseEntity.ok()
+					.cacheControl(CatalogCacheControl.publicCatalog())
+					.body(response.getBody());
+		}
+		if (webRequest.checkNotModified(eTag)) {
+			return null;
+		}
+		return ResponseEntity.ok()
+				.cacheControl(CatalogCacheControl.publicCatalog())
+				.eTag(eTag)
+				.body(response.getBody());
 	}
 	
 	@PostMapping
@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.product.service;
 
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -12,15 +14,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.product.model.CategoryDto;
 import com.selimhorri.app.business.product.model.response.CategoryProductServiceCollectionDtoResponse;
+import com.selimhorri.app.business.product.model.response.ProductProductServiceCollectionDtoResponse;
 
 @FeignClient(name = "PRODUCT-SERVICE", contextId = "categoryClientService", path = "/product-service/api/categories")
 public interface CategoryClientService {
 	
 	@GetMapping
-	ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll();
+	ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll(
+			@RequestParam(value = "page", required = false) final Integer page, 
+			@RequestParam(value = "size", required = false) final Integer size, 
+			@RequestParam(value = "sort", required = false) final List<String> sort, 
+			@RequestParam(value = "after", required = false) final Integer after);
 	
 	@GetMapping("/{categoryId}")
 	ResponseEntity<CategoryDto> findById(
@@ -28,6 +36,26 @@ public interface CategoryClientService {
 			@NotBlank(message = "Input must not be blank!") 
 			@Valid final String categoryId);
 	
+	@GetMapping("/{categoryId}/descendants")
+	ResponseEntity<CategoryProductServiceCollectionDtoResponse> findDescendants(
+			@PathVariable("categoryId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String categoryId);
+	
+	@GetMapping("/{categoryId}/path")
+	ResponseEntity<CategoryProductServiceCollectionDtoResponse> findPathToRoot(
+			@PathVariable("categoryId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String categoryId);
+	
+	@GetMapping("/{categoryId}/products")
+	ResponseEntity<ProductProductServiceCollectionDtoResponse> findProductsInSubtree(
+			@PathVariable("categoryId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String categoryId, 
+			@RequestParam(value = "page", required = false) final Integer page, 
+			@RequestParam(value = "size", required = false) final Integer size);
+	
 	@PostMapping
 	ResponseEntity<CategoryDto> save(
 			@RequestBody 
@@ -0,0 +1,106 @@
+package com.selimhorri.app.config.collapse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.exception.wrapper.RequestCollapseTimeoutException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Merges concurrent identical upstream reads: the first caller for a key performs the call, 
+ * callers arriving while it is in flight wait for and share its result (or its exception).
+ * Only use it for reads whose result does not depend on the caller.
+ * Waiters give up after the Feign read timeout, the longest the leader's own call may legitimately take.
+ */
+@Component
+public class RequestCollapser {
+	
+	private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+	private final MeterRegistry meterRegistry;
+	private final long waitTimeoutMillis;
+	
+	public RequestCollapser(final MeterRegistry meterRegistry, 
+			@Value("${feign.client.config.default.read-timeout:5000}") final long waitTimeoutMillis) {
+		this.meterRegistry = meterRegistry;
+		this.waitTimeoutMillis = waitTimeoutMillis;
+	}
+	
+	@SuppressWarnings("unchecked")
+	public <T> T collapse(final String name, final Object id, final Supplier<T> call) {
+		final String key = name + ":" + id;
+		final CompletableFuture<Object> leader = new CompletableFuture<>();
+		final CompletableFuture<Object> existing = this.inFlight.putIfAbsent(key, leader);
+		if (existing != null) {
+			this.counter(name, "collapsed").increment();
+			return (T) this.await(name, key, existing);
+		}
+		this.counter(name, "executed").increment();
+		try {
+			final T result = call.get();
+			leader.complete(result);
+			return result;
+		}
+		catch (Throwable e) {
+			leader.completeExceptionally(e);
+			throw e;
+		}
+		finally {
+			this.inFlight.remove(key, leader);
+		}
+	}
+	
+	private Object await(final String name, final String key, final CompletableFuture<Object> existing) {
+		try {
+			return existing.get(this.waitTimeoutMillis, TimeUnit.MILLISECONDS);
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+		catch (TimeoutException e) {
+			this.counter(name, "timed-out").increment();
+			throw new RequestCollapseTimeoutException(String
+					.format("#### Timed out after %d ms waiting for in-flight call %s ####", this.waitTimeoutMillis, key), e);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RequestCollapseTimeoutException(String
+					.format("#### Interrupted while waiting for in-flight call %s ####", key), e);
+		}
+	}
+	
+	private Counter counter(final String name, final String outcome) {
+		return Counter.builder("proxy.requests.collapser")
+				.tag("name", name)
+				.tag("outcome", outcome)
+				.register(this.meterRegistry);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,31 @@
+package com.selimhorri.app.config.executor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.selimhorri.app.constant.AppConstant;
+
+@Configuration
+public class ExecutorConfig {
+	
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService checkoutExecutorBean() {
+		return Executors.newFixedThreadPool(AppConstant.CHECKOUT_MAX_CONCURRENCY);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class RequestCollapseTimeoutException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public RequestCollapseTimeoutException() {
+		super();
+	}
+	
+	public RequestCollapseTimeoutException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public RequestCollapseTimeoutException(String message) {
+		super(message);
+	}
+	
+	public RequestCollapseTimeoutException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,6 +1,7 @@
 package com.selimhorri.app.jwt.service.impl;
 
 import java.util.Date;
+import java.util.Optional;
 import java.util.function.Function;
 
 import org.springframework.security.core.userdetails.UserDetails;
@@ -32,6 +33,18 @@ public class JwtServiceImpl implements JwtService {
 		return this.jwtUtil.extractExpiration(token);
 	}
 	
+	@Override
+	public Claims parseToken(final String token) {
+		log.info("**Claims, jwt service parse and verify given token!*");
+		return this.jwtUtil.parseToken(token);
+	}
+	
+	@Override
+	public Optional<UserDetails> extractUserDetails(final Claims claims) {
+		log.info("**UserDetails, jwt service extract user details from given claims!*");
+		return this.jwtUtil.extractUserDetails(claims);
+	}
+	
 	@Override
 	public <T> T extractClaims(final String token, final Function<Claims, T> claimsResolver) {
 		log.info("**T, jwt service extract claims from given token and claimResolver Function!*");
@@ -50,6 +63,12 @@ public class JwtServiceImpl implements JwtService {
 		return this.jwtUtil.validateToken(token, userDetails);
 	}
 	
+	@Override
+	public Boolean validateToken(final Claims claims, final UserDetails userDetails) {
+		log.info("**Boolean, jwt service validate token from given claims and userDetails!*");
+		return this.jwtUtil.validateToken(claims, userDetails);
+	}
+	
 	
 	
 }
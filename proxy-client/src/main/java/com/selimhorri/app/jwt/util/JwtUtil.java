@@ -1,6 +1,7 @@
 package com.selimhorri.app.jwt.util;
 
 import java.util.Date;
+import java.util.Optional;
 import java.util.function.Function;
 
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,8 +12,11 @@ public interface JwtUtil {
 	
 	String extractUsername(final String token);
 	Date extractExpiration(final String token);
+	Claims parseToken(final String token);
+	Optional<UserDetails> extractUserDetails(final Claims claims);
 	<T> T extractClaims(final String token, final Function<Claims, T> claimsResolver);
 	String generateToken(final UserDetails userDetails);
 	Boolean validateToken(final String token, final UserDetails userDetails);
+	Boolean validateToken(final Claims claims, final UserDetails userDetails);
 	
 }
@@ -2,12 +2,21 @@ package com.selimhorri.app.jwt.util.impl;
 
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.selimhorri.app.jwt.util.JwtUtil;
 
 import io.jsonwebtoken.Claims;
@@ -18,6 +27,38 @@ import io.jsonwebtoken.SignatureAlgorithm;
 public class JwtUtilImpl implements JwtUtil {
 	
 	private static final String SECRET_KEY = "secret";
+	private static final String AUTHORITIES_CLAIM = "authorities";
+	private static final String ENABLED_CLAIM = "enabled";
+	private static final String ACCOUNT_NON_EXPIRED_CLAIM = "accountNonExpired";
+	private static final String ACCOUNT_NON_LOCKED_CLAIM = "accountNonLocked";
+	private static final String CREDENTIALS_NON_EXPIRED_CLAIM = "credentialsNonExpired";
+	private static final long VERIFIED_TOKEN_CACHE_SIZE = 10000;
+	private static final long UNBOUNDED_TOKEN_CACHE_TTL_NANOS = TimeUnit.MINUTES.toNanos(5);
+	
+	private final Cache<String, Claims> verifiedTokens = Caffeine.newBuilder()
+			.maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+			.expireAfter(new Expiry<String, Claims>() {
+				
+				@Override
+				public long expireAfterCreate(final String token, final Claims claims, final long currentTime) {
+					if (claims.getExpiration() == null) {
+						return UNBOUNDED_TOKEN_CACHE_TTL_NANOS;
+					}
+					return Math.max(0, TimeUnit.MILLISECONDS.toNanos(claims.getExpiration().getTime() - System.currentTimeMillis()));
+				}
+				
+				@Override
+				public long expireAfterUpdate(final String token, final Claims claims, final long currentTime, final long currentDuration) {
+					return currentDuration;
+				}
+				
+				@Override
+				public long expireAfterRead(final String token, final Claims claims, final long currentTime, final long currentDuration) {
+					return currentDuration;
+				}
+				
+			})
+			.build();
 	
 	@Override
 	public String extractUsername(final String token) {
@@ -29,23 +70,52 @@ public class JwtUtilImpl implements JwtUtil {
 		return this.extractClaims(token, Claims::getExpiration);
 	}
 	
+	@Override
+	public Claims parseToken(final String token) {
+		return this.verifiedTokens.get(token, this::verifyToken);
+	}
+	
+	@Override
+	public Optional<UserDetails> extractUserDetails(final Claims claims) {
+		if (!claims.containsKey(AUTHORITIES_CLAIM)) {
+			return Optional.empty();
+		}
+		
+		@SuppressWarnings("unchecked")
+		final List<String> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+		return Optional.of(User.withUsername(claims.getSubject())
+				.password("")
+				.authorities(authorities.toArray(String[]::new))
+				.disabled(!Boolean.TRUE.equals(claims.get(ENABLED_CLAIM, Boolean.class)))
+				.accountExpired(!Boolean.TRUE.equals(claims.get(ACCOUNT_NON_EXPIRED_CLAIM, Boolean.class)))
+				.accountLocked(!Boolean.TRUE.equals(claims.get(ACCOUNT_NON_LOCKED_CLAIM, Boolean.class)))
+				.credentialsExpired(!Boolean.TRUE.equals(claims.get(CREDENTIALS_NON_EXPIRED_CLAIM, Boolean.class)))
+				.build());
+	}
+	
 	@Override
 	public <T> T extractClaims(final String token, Function<Claims, T> claimsResolver) {
-		final Claims claims = this.extractAllClaims(token);
-		return claimsResolver.apply(claims);
+		return claimsResolver.apply(this.parseToken(token));
 	}
 	
-	private Claims extractAllClaims(final String token) {
+	private Claims verifyToken(final String token) {
 		return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
 	}
 	
-	private Boolean isTokenExpired(final String token) {
-		return this.extractExpiration(token).before(new Date());
+	private Boolean isTokenExpired(final Claims claims) {
+		return claims.getExpiration().before(new Date());
 	}
 	
 	@Override
 	public String generateToken(final UserDetails userDetails) {
 		final Map<String, Object> claims = new HashMap<>();
+		claims.put(AUTHORITIES_CLAIM, userDetails.getAuthorities().stream()
+				.map(GrantedAuthority::getAuthority)
+				.collect(Collectors.toUnmodifiableList()));
+		claims.put(ENABLED_CLAIM, userDetails.isEnabled());
+		claims.put(ACCOUNT_NON_EXPIRED_CLAIM, userDetails.isAccountNonExpired());
+		claims.put(ACCOUNT_NON_LOCKED_CLAIM, userDetails.isAccountNonLocked());
+		claims.put(CREDENTIALS_NON_EXPIRED_CLAIM, userDetails.isCredentialsNonExpired());
 		return this.createToken(claims, userDetails.getUsername());
 	}
 	
@@ -61,9 +131,13 @@ public class JwtUtilImpl implements JwtUtil {
 	
 	@Override
 	public Boolean validateToken(final String token, final UserDetails userDetails) {
-		final String username = this.extractUsername(token);
+		return this.validateToken(this.parseToken(token), userDetails);
+	}
+	
+	@Override
+	public Boolean validateToken(final Claims claims, final UserDetails userDetails) {
 		return (
-			username.equals(userDetails.getUsername()) && !isTokenExpired(token)
+			claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims)
 		);
 	}
 	
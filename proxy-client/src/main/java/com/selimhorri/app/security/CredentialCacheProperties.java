@@ -0,0 +1,29 @@
+package com.selimhorri.app.security;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.security.credential-cache")
+@Data
+public class CredentialCacheProperties {
+	
+	private boolean enabled = false;
+	private long maxSize = 10000;
+	private Duration ttl = Duration.ofSeconds(30);
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,60 @@
+package com.selimhorri.app.security;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@EnableConfigurationProperties(CredentialCacheProperties.class)
+@Slf4j
+public class CredentialStatusCache {
+	
+	private final UserDetailsService userDetailsService;
+	private final boolean enabled;
+	private final Cache<String, Boolean> statuses;
+	
+	public CredentialStatusCache(final UserDetailsService userDetailsService, 
+			final CredentialCacheProperties credentialCacheProperties) {
+		this.userDetailsService = userDetailsService;
+		this.enabled = credentialCacheProperties.isEnabled();
+		this.statuses = Caffeine.newBuilder()
+				.maximumSize(credentialCacheProperties.getMaxSize())
+				.expireAfterWrite(credentialCacheProperties.getTtl())
+				.build();
+	}
+	
+	public boolean isActive(final String username) {
+		if (!this.enabled) {
+			return true;
+		}
+		return this.statuses.get(username, this::loadStatus);
+	}
+	
+	private Boolean loadStatus(final String username) {
+		log.info("**Boolean, credential status cache miss, loading credential*\n");
+		final UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+		return userDetails.isEnabled() 
+				&& userDetails.isAccountNonExpired() 
+				&& userDetails.isAccountNonLocked() 
+				&& userDetails.isCredentialsNonExpired();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,142 @@
+package com.selimhorri.app.business.checkout.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import com.selimhorri.app.business.checkout.model.StockReservationResultDto;
+import com.selimhorri.app.business.checkout.model.request.CheckoutRequest;
+import com.selimhorri.app.business.checkout.model.response.CheckoutResponse;
+import com.selimhorri.app.business.checkout.service.impl.CheckoutServiceImpl;
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.orderItem.model.response.OrderItemOrderItemServiceDtoCollectionResponse;
+import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.payment.service.PaymentClientService;
+import com.selimhorri.app.exception.wrapper.CheckoutFailedException;
+
+@ExtendWith(MockitoExtension.class)
+class CheckoutServiceImplTest {
+
+    @Mock
+    private InventoryClientService inventoryClientService;
+
+    @Mock
+    private OrderClientService orderClientService;
+
+    @Mock
+    private OrderItemClientService orderItemClientService;
+
+    @Mock
+    private PaymentClientService paymentClientService;
+
+    private ExecutorService checkoutExecutor;
+
+    private CheckoutService checkoutService;
+
+    @BeforeEach
+    void setUp() {
+        checkoutExecutor = Executors.newFixedThreadPool(4);
+        checkoutService = new CheckoutServiceImpl(inventoryClientService, orderClientService,
+            orderItemClientService, paymentClientService, checkoutExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        checkoutExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("checkout creates order, items and payment and commits the stock reservation")
+    void checkoutPlacesOrder() {
+        when(inventoryClientService.reserve(any())).thenReturn(ResponseEntity.ok(reservation(true)));
+        when(orderClientService.save(any())).thenReturn(ResponseEntity.ok(OrderDto.builder().orderId(9).build()));
+        when(orderItemClientService.saveAll(anyList())).thenReturn(ResponseEntity.ok(
+            OrderItemOrderItemServiceDtoCollectionResponse.builder()
+                .collection(List.of(OrderItemDto.builder().orderId(9).productId(1).orderedQuantity(2).build()))
+                .build()));
+        when(paymentClientService.save(any())).thenReturn(ResponseEntity.ok(PaymentDto.builder().paymentId(5).build()));
+        when(inventoryClientService.commit(anyString())).thenReturn(ResponseEntity.ok(reservation(true)));
+
+        CheckoutResponse response = checkoutService.checkout(request());
+
+        assertThat(response.getOrderDto().getOrderId()).isEqualTo(9);
+        assertThat(response.getOrderItemDtos()).extracting(OrderItemDto::getOrderId).containsExactly(9);
+        assertThat(response.getPaymentDto().getPaymentId()).isEqualTo(5);
+        verify(inventoryClientService).commit(response.getReservationId());
+        verify(orderClientService, never()).deleteById(anyString());
+    }
+
+    @Test
+    @DisplayName("checkout deletes the created order when stock is unavailable")
+    void checkoutCompensatesOrderWhenStockIsShort() {
+        when(inventoryClientService.reserve(any())).thenReturn(ResponseEntity.ok(reservation(false)));
+        when(orderClientService.save(any())).thenReturn(ResponseEntity.ok(OrderDto.builder().orderId(9).build()));
+
+        assertThatThrownBy(() -> checkoutService.checkout(request()))
+            .isInstanceOf(CheckoutFailedException.class)
+            .hasMessageContaining("stock unavailable");
+
+        verify(orderClientService).deleteById("9");
+        verify(inventoryClientService, never()).release(anyString());
+        verify(orderItemClientService, never()).saveAll(anyList());
+        verify(paymentClientService, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("checkout undoes items, order and reservation in reverse order when payment fails")
+    void checkoutCompensatesWhenPaymentFails() {
+        when(inventoryClientService.reserve(any())).thenReturn(ResponseEntity.ok(reservation(true)));
+        when(orderClientService.save(any())).thenReturn(ResponseEntity.ok(OrderDto.builder().orderId(9).build()));
+        when(orderItemClientService.saveAll(anyList())).thenReturn(ResponseEntity.ok(
+            OrderItemOrderItemServiceDtoCollectionResponse.builder().collection(List.of()).build()));
+        when(paymentClientService.save(any())).thenThrow(new IllegalStateException("payment-service down"));
+
+        assertThatThrownBy(() -> checkoutService.checkout(request()))
+            .isInstanceOf(CheckoutFailedException.class);
+
+        InOrder compensation = inOrder(orderItemClientService, orderClientService, inventoryClientService);
+        compensation.verify(orderItemClientService).deleteByOrderId("9");
+        compensation.verify(orderClientService).deleteById("9");
+        compensation.verify(inventoryClientService).release(anyString());
+        verify(inventoryClientService, never()).commit(anyString());
+    }
+
+    private static CheckoutRequest request() {
+        return CheckoutRequest.builder()
+            .cartId(3)
+            .orderDesc("Checkout")
+            .orderFee(40.0)
+            .lines(List.of(new CheckoutRequest.Line(1, 2)))
+            .build();
+    }
+
+    private static StockReservationResultDto reservation(final boolean reserved) {
+        return StockReservationResultDto.builder()
+            .reserved(reserved)
+            .lines(List.of())
+            .build();
+    }
+}
@@ -9,6 +9,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,7 @@ import org.springframework.test.web.servlet.MockMvc;
         "eureka.client.register-with-eureka=false",
         "eureka.client.fetch-registry=false",
         "spring.cloud.config.enabled=false",
+        "app.http-client.idle-eviction=200ms",
         "SPRING_CONFIG_IMPORT=optional:file:./"
     })
 @AutoConfigureMockMvc(addFilters = false)
@@ -39,6 +41,9 @@ class OrderControllerIT {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private PoolingHttpClientConnectionManager connectionManager;
+
     @BeforeEach
     void resetWireMock() {
         reset();
@@ -82,4 +87,23 @@ class OrderControllerIT {
             .andExpect(jsonPath("$.orderId").value(42))
             .andExpect(jsonPath("$.orderDesc").value("Created via proxy"));
     }
+
+    @Test
+    @DisplayName("las llamadas Feign reutilizan el pool de HttpClient con desalojo de conexiones inactivas")
+    void feignCallsUseSharedEvictingPool() throws Exception {
+        stubFor(com.github.tomakehurst.wiremock.client.WireMock.get(urlEqualTo("/order-service/api/orders"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"collection\":[]}")));
+
+        mockMvc.perform(get("/app/api/orders").contextPath("/app"))
+            .andExpect(status().isOk());
+
+        org.assertj.core.api.Assertions.assertThat(connectionManager.getTotalStats().getAvailable()).isPositive();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (connectionManager.getTotalStats().getAvailable() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        org.assertj.core.api.Assertions.assertThat(connectionManager.getTotalStats().getAvailable()).isZero();
+    }
 }
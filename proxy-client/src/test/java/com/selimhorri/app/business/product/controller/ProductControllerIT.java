@@ -0,0 +1,86 @@
+package com.selimhorri.app.business.product.controller;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.reset;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Runs with the Spring Security filter chain so that the asserted headers are the ones 
+ * the gateway response cache actually receives from proxy-client.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.cloud.discovery.client.simple.instances.PRODUCT-SERVICE[0].uri=http://localhost:${wiremock.server.port}",
+        "wiremock.server.https-port=-1",
+        "eureka.client.enabled=false",
+        "eureka.client.register-with-eureka=false",
+        "eureka.client.fetch-registry=false",
+        "spring.cloud.config.enabled=false",
+        "SPRING_CONFIG_IMPORT=optional:file:./"
+    })
+@AutoConfigureMockMvc
+@AutoConfigureWireMock(port = 0)
+@ActiveProfiles("dev")
+class ProductControllerIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void resetWireMock() {
+        reset();
+    }
+
+    @Test
+    @DisplayName("GET /api/products responde con Cache-Control público en lugar del no-store de Spring Security")
+    void catalogListIsPubliclyCacheable() throws Exception {
+        stubFor(com.github.tomakehurst.wiremock.client.WireMock.get(urlEqualTo("/product-service/api/products"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"collection\":[{\"productId\":1,\"productTitle\":\"Lamp\"}]}")));
+
+        mockMvc.perform(get("/app/api/products").contextPath("/app"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.collection[0].productId").value(1))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("public")))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=30")))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, not(containsString("no-store"))))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, not(containsString("no-cache"))))
+            .andExpect(header().doesNotExist(HttpHeaders.PRAGMA));
+    }
+
+    @Test
+    @DisplayName("GET /api/products/{id} conserva el ETag y el Cache-Control público")
+    void catalogItemKeepsETagAndIsPubliclyCacheable() throws Exception {
+        stubFor(com.github.tomakehurst.wiremock.client.WireMock.get(urlEqualTo("/product-service/api/products/1"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withHeader("ETag", "\"0abc\"")
+                .withBody("{\"productId\":1,\"productTitle\":\"Lamp\"}")));
+
+        mockMvc.perform(get("/app/api/products/1").contextPath("/app"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"0abc\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("public")))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, not(containsString("no-store"))));
+    }
+}
@@ -0,0 +1,139 @@
+package com.selimhorri.app.config.collapse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.exception.wrapper.RequestCollapseTimeoutException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RequestCollapserTest {
+
+    private static final int CALLERS = 16;
+    private static final long WAIT_TIMEOUT_MILLIS = 200;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCollapser requestCollapser = new RequestCollapser(meterRegistry, WAIT_TIMEOUT_MILLIS);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("concurrent calls for the same key share a single upstream call")
+    void concurrentCallsShareOneUpstreamCall() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> requestCollapser.collapse("product", 7, () -> {
+            upstreamCalls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "product-7";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<Future<String>> waiters = new ArrayList<>();
+        for (int i = 1; i < CALLERS; i++) {
+            waiters.add(executor.submit(() -> requestCollapser.collapse("product", 7, () -> {
+                upstreamCalls.incrementAndGet();
+                return "duplicate";
+            })));
+        }
+        while (meterRegistry.counter("proxy.requests.collapser", "name", "product", "outcome", "collapsed").count() < CALLERS - 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("product-7");
+        for (Future<String> waiter : waiters) {
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("product-7");
+        }
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("a failed upstream call is rethrown and the key is released")
+    void failureIsRethrownAndKeyReleased() {
+        assertThatThrownBy(() -> requestCollapser.collapse("category", 3, () -> {
+            throw new IllegalStateException("upstream down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(requestCollapser.collapse("category", 3, () -> "category-3")).isEqualTo("category-3");
+    }
+
+    @Test
+    @DisplayName("an error thrown by the leader reaches the waiters instead of leaving them blocked")
+    void leaderErrorIsSharedWithWaiters() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> requestCollapser.collapse("product", 9, () -> {
+            started.countDown();
+            await(release);
+            throw new AssertionError("decoder blew up");
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> waiter = executor.submit(() -> requestCollapser.collapse("product", 9, () -> "duplicate"));
+        while (meterRegistry.counter("proxy.requests.collapser", "name", "product", "outcome", "collapsed").count() < 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(AssertionError.class);
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(AssertionError.class);
+        assertThat(requestCollapser.collapse("product", 9, () -> "product-9")).isEqualTo("product-9");
+    }
+
+    @Test
+    @DisplayName("waiters give up after the read timeout while the leader is still in flight")
+    void waitersTimeOut() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> requestCollapser.collapse("category", 4, () -> {
+            started.countDown();
+            await(release);
+            return "category-4";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> requestCollapser.collapse("category", 4, () -> "duplicate"))
+            .isInstanceOf(RequestCollapseTimeoutException.class);
+        assertThat(meterRegistry.counter("proxy.requests.collapser", "name", "category", "outcome", "timed-out").count())
+            .isEqualTo(1);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("category-4");
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
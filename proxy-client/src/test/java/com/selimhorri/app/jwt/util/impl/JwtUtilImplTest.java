@@ -0,0 +1,78 @@
+package com.selimhorri.app.jwt.util.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+
+class JwtUtilImplTest {
+
+    private final JwtUtilImpl jwtUtil = new JwtUtilImpl();
+
+    @Test
+    @DisplayName("generateToken carries authorities and account flags as claims")
+    void tokenCarriesAuthoritiesAndFlags() {
+        UserDetails source = User.withUsername("selimhorri")
+            .password("secret")
+            .authorities("ROLE_USER")
+            .accountLocked(true)
+            .build();
+
+        Optional<UserDetails> extracted = jwtUtil.extractUserDetails(jwtUtil.parseToken(jwtUtil.generateToken(source)));
+
+        assertThat(extracted).isPresent();
+        assertThat(extracted.get().getUsername()).isEqualTo("selimhorri");
+        assertThat(extracted.get().getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactly("ROLE_USER");
+        assertThat(extracted.get().isEnabled()).isTrue();
+        assertThat(extracted.get().isAccountNonLocked()).isFalse();
+        assertThat(jwtUtil.validateToken(jwtUtil.generateToken(source), extracted.get())).isTrue();
+    }
+
+    @Test
+    @DisplayName("parseToken verifies a token once and reuses the claims afterwards")
+    void parseTokenReusesVerifiedClaims() {
+        String token = jwtUtil.generateToken(User.withUsername("selimhorri")
+            .password("secret")
+            .authorities("ROLE_USER")
+            .build());
+
+        Claims first = jwtUtil.parseToken(token);
+
+        assertThat(jwtUtil.parseToken(token)).isSameAs(first);
+        assertThat(jwtUtil.extractUsername(token)).isEqualTo("selimhorri");
+    }
+
+    @Test
+    @DisplayName("parseToken rejects a token signed with another key")
+    void parseTokenRejectsForgedSignature() {
+        String forged = Jwts.builder()
+            .setSubject("selimhorri")
+            .signWith(SignatureAlgorithm.HS256, "another-secret")
+            .compact();
+
+        assertThatThrownBy(() -> jwtUtil.parseToken(forged)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("tokens issued without authority claims fall back to a credential lookup")
+    void legacyTokenHasNoUserDetails() {
+        String legacy = Jwts.builder()
+            .setSubject("selimhorri")
+            .signWith(SignatureAlgorithm.HS256, "secret")
+            .compact();
+
+        assertThat(jwtUtil.extractUserDetails(jwtUtil.parseToken(legacy))).isEmpty();
+    }
+}
@@ -0,0 +1,47 @@
+package com.selimhorri.app.config.client;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.selimhorri.app.constant.AppConstant;
+
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+
+@Configuration
+public class EnrichmentConfig {
+	
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService enrichmentExecutorBean() {
+		return Executors.newFixedThreadPool(AppConstant.ENRICHMENT_MAX_CONCURRENCY);
+	}
+	
+	@Bean
+	public Customizer<Resilience4JCircuitBreakerFactory> circuitBreakerFactoryCustomizerBean(
+			@Value("${resilience4j.timelimiter.instances.shippingService.timeout-duration:2s}") final Duration timeoutDuration) {
+		return factory -> factory.configure(builder -> builder
+				.timeLimiterConfig(TimeLimiterConfig.custom()
+						.timeoutDuration(timeoutDuration)
+						.build()), 
+				AppConstant.CIRCUIT_BREAKER_ID);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -10,6 +10,13 @@ public abstract class AppConstant {
 	public static final String LOCAL_DATE_TIME_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	public static final String ZONED_DATE_TIME_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	public static final String INSTANT_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
+	public static final int DEFAULT_PAGE_SIZE = 20;
+	public static final int BATCH_MAX_ITEMS = 500;
+	public static final String PRODUCT_CACHE = "products";
+	public static final String ORDER_CACHE = "orders";
+	public static final int EXPORT_PAGE_SIZE = 1000;
+	public static final String CIRCUIT_BREAKER_ID = "shippingService";
+	public static final int ENRICHMENT_MAX_CONCURRENCY = 16;
 	
 	@NoArgsConstructor(access = AccessLevel.PRIVATE)
 	public abstract class DiscoveredDomainsApi {
@@ -6,7 +6,11 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.IdClass;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
+
+import org.springframework.data.domain.Persistable;
 
 import com.selimhorri.app.domain.id.OrderItemId;
 
@@ -21,10 +25,10 @@ import lombok.NoArgsConstructor;
 @IdClass(OrderItemId.class)
 @NoArgsConstructor
 @AllArgsConstructor
-@EqualsAndHashCode(callSuper = true)
+@EqualsAndHashCode(callSuper = true, exclude = {"newEntity"})
 @Data
 @Builder
-public final class OrderItem extends AbstractMappedEntity implements Serializable {
+public final class OrderItem extends AbstractMappedEntity implements Persistable<OrderItemId>, Serializable {
 	
 	private static final long serialVersionUID = 1L;
 	
@@ -39,6 +43,29 @@ public final class OrderItem extends AbstractMappedEntity implements Serializabl
 	@Column(name = "ordered_quantity")
 	private Integer orderedQuantity;
 	
+	@Transient
+	private boolean newEntity;
+	
+	@Override
+	public OrderItemId getId() {
+		return new OrderItemId(this.productId, this.orderId);
+	}
+	
+	@Override
+	public boolean isNew() {
+		return this.newEntity;
+	}
+	
+	public OrderItem markNew() {
+		this.newEntity = true;
+		return this;
+	}
+	
+	@PostPersist
+	void markPersisted() {
+		this.newEntity = false;
+	}
+	
 }
 
 
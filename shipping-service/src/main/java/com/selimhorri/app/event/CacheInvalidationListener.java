@@ -0,0 +1,40 @@
+package com.selimhorri.app.event;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.dto.CacheInvalidationEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener {
+	
+	private final CacheManager cacheManager;
+	
+	@EventListener
+	public void onCacheInvalidation(final CacheInvalidationEvent event) {
+		if (!this.cacheManager.getCacheNames().contains(event.getCacheName())) {
+			return;
+		}
+		log.info("*** Void, listener; evict {} entry {} *", event.getCacheName(), event.getKey());
+		this.cacheManager.getCache(event.getCacheName()).evict(event.getKey());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
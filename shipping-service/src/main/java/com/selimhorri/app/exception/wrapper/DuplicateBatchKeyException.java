@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class DuplicateBatchKeyException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public DuplicateBatchKeyException() {
+		super();
+	}
+	
+	public DuplicateBatchKeyException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public DuplicateBatchKeyException(String message) {
+		super(message);
+	}
+	
+	public DuplicateBatchKeyException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,12 +1,36 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.List;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.selimhorri.app.domain.OrderItem;
 import com.selimhorri.app.domain.id.OrderItemId;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, OrderItemId> {
 	
+	Page<OrderItem> findByOrderId(final Integer orderId, final Pageable pageable);
+	
+	@Modifying
+	@Query("DELETE FROM OrderItem oi WHERE oi.orderId = :orderId")
+	int deleteByOrderId(@Param("orderId") final Integer orderId);
 	
+	@Transactional(readOnly = true)
+	@QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+	@Query("SELECT oi FROM OrderItem oi WHERE oi.orderId > :orderId "
+			+ "OR (oi.orderId = :orderId AND oi.productId > :productId) ORDER BY oi.orderId, oi.productId")
+	List<OrderItem> findExportPage(@Param("orderId") final Integer orderId, 
+			@Param("productId") final Integer productId, final Pageable pageable);
 	
 }
@@ -0,0 +1,48 @@
+package com.selimhorri.app.resource;
+
+import java.util.List;
+
+import javax.validation.constraints.NotNull;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.dto.CacheInvalidationEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/cache-events")
+@Slf4j
+@RequiredArgsConstructor
+public class CacheEventResource {
+	
+	private final ApplicationEventPublisher applicationEventPublisher;
+	
+	@PostMapping
+	public ResponseEntity<Void> evict(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") final List<CacheInvalidationEvent> events) {
+		log.info("*** Void, controller; evict cached entries *");
+		events.forEach(this.applicationEventPublisher::publishEvent);
+		return ResponseEntity.noContent().build();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,23 +1,43 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OrderItem;
 import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.OrderItemDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.exception.wrapper.BatchLimitExceededException;
+import com.selimhorri.app.exception.wrapper.DuplicateBatchKeyException;
 import com.selimhorri.app.exception.wrapper.OrderItemNotFoundException;
 import com.selimhorri.app.helper.OrderItemMappingHelper;
 import com.selimhorri.app.repository.OrderItemRepository;
 import com.selimhorri.app.service.OrderItemService;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -29,36 +49,61 @@ public class OrderItemServiceImpl implements OrderItemService {
 	
 	private final OrderItemRepository orderItemRepository;
 	private final RestTemplate restTemplate;
+	private final CircuitBreakerFactory<?, ?> circuitBreakerFactory;
+	private final ExecutorService enrichmentExecutor;
+	private final CacheManager cacheManager;
+	private final MeterRegistry meterRegistry;
 	
 	@Override
 	public List<OrderItemDto> findAll() {
 		log.info("*** OrderItemDto List, service; fetch all orderItems *");
-		return this.orderItemRepository.findAll()
+		return this.enrich(this.orderItemRepository.findAll()
 				.stream()
 					.map(OrderItemMappingHelper::map)
-					.map(o -> {
-						o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-						o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
-						return o;
-					})
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public Page<OrderItemDto> findAll(final Pageable pageable) {
+		log.info("*** OrderItemDto Page, service; fetch page of orderItems *");
+		final var orderItemDtos = this.orderItemRepository.findAll(pageable)
+				.map(OrderItemMappingHelper::map);
+		this.enrich(orderItemDtos.getContent());
+		return orderItemDtos;
+	}
+	
+	@Override
+	public Page<OrderItemDto> findAllByOrderId(final Integer orderId, final Pageable pageable) {
+		log.info("*** OrderItemDto Page, service; fetch page of orderItems by orderId *");
+		final var orderItemDtos = this.orderItemRepository.findByOrderId(orderId, pageable)
+				.map(OrderItemMappingHelper::map);
+		this.enrich(orderItemDtos.getContent());
+		return orderItemDtos;
+	}
+	
+	@Override
+	@Transactional(Transactional.TxType.NOT_SUPPORTED)
+	public void streamAll(final Consumer<OrderItemDto> consumer) {
+		log.info("*** OrderItemDto Stream, service; stream all orderItems *");
+		final Pageable pageable = PageRequest.of(0, AppConstant.EXPORT_PAGE_SIZE);
+		List<OrderItem> page;
+		OrderItemId after = new OrderItemId(0, 0);
+		do {
+			page = this.orderItemRepository.findExportPage(after.getOrderId(), after.getProductId(), pageable);
+			page.forEach(o -> consumer.accept(OrderItemMappingHelper.map(o)));
+			if (!page.isEmpty()) {
+				after = page.get(page.size() - 1).getId();
+			}
+		} while (page.size() == AppConstant.EXPORT_PAGE_SIZE);
 	}
 	
 	@Override
 	public OrderItemDto findById(final OrderItemId orderItemId) {
 		log.info("*** OrderItemDto, service; fetch orderItem by id *");
-		return this.orderItemRepository.findById(null)
+		return this.orderItemRepository.findById(orderItemId)
 				.map(OrderItemMappingHelper::map)
-				.map(o -> {
-					o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-					o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
-					return o;
-				})
+				.map(o -> this.enrich(List.of(o)).get(0))
 				.orElseThrow(() -> new OrderItemNotFoundException(String.format("OrderItem with id: %s not found", orderItemId)));
 	}
 	
@@ -69,6 +114,29 @@ public class OrderItemServiceImpl implements OrderItemService {
 				.save(OrderItemMappingHelper.map(orderItemDto)));
 	}
 	
+	@Override
+	public List<OrderItemDto> saveAll(final List<OrderItemDto> orderItemDtos) {
+		log.info("*** OrderItemDto List, service; save orderItems in batch *");
+		if (orderItemDtos.size() > AppConstant.BATCH_MAX_ITEMS) {
+			throw new BatchLimitExceededException(String
+					.format("Batch save accepts at most %d orderItems", AppConstant.BATCH_MAX_ITEMS));
+		}
+		final List<OrderItem> orderItems = orderItemDtos.stream()
+				.map(OrderItemMappingHelper::map)
+				.map(OrderItem::markNew)
+				.collect(Collectors.toUnmodifiableList());
+		this.requireNewKeys(orderItems);
+		try {
+			return this.orderItemRepository.saveAllAndFlush(orderItems)
+					.stream()
+						.map(OrderItemMappingHelper::map)
+						.collect(Collectors.toUnmodifiableList());
+		}
+		catch (DataIntegrityViolationException e) {
+			throw new DuplicateBatchKeyException("Batch conflicts with orderItems written concurrently", e);
+		}
+	}
+	
 	@Override
 	public OrderItemDto update(final OrderItemDto orderItemDto) {
 		log.info("*** OrderItemDto, service; update orderItem *");
@@ -82,6 +150,86 @@ public class OrderItemServiceImpl implements OrderItemService {
 		this.orderItemRepository.deleteById(orderItemId);
 	}
 	
+	@Override
+	public int deleteByOrderId(final Integer orderId) {
+		log.info("*** Void, service; delete orderItems by orderId *");
+		return this.orderItemRepository.deleteByOrderId(orderId);
+	}
+	
+	/**
+	 * Batch saves are insert-only: markNew makes every row a persist, so repeated 
+	 * or already stored keys are rejected up front instead of failing the flush.
+	 */
+	private void requireNewKeys(final List<OrderItem> orderItems) {
+		final Set<OrderItemId> ids = new HashSet<>();
+		final Set<OrderItemId> repeated = orderItems.stream()
+				.map(OrderItem::getId)
+				.filter(id -> !ids.add(id))
+				.collect(Collectors.toUnmodifiableSet());
+		if (!repeated.isEmpty()) {
+			throw new DuplicateBatchKeyException(String.format("Batch repeats orderItems with ids: %s", repeated));
+		}
+		final List<OrderItemId> existing = this.orderItemRepository.findAllById(ids)
+				.stream()
+					.map(OrderItem::getId)
+					.collect(Collectors.toUnmodifiableList());
+		if (!existing.isEmpty()) {
+			throw new DuplicateBatchKeyException(String.format("OrderItems with ids: %s already exist", existing));
+		}
+	}
+	
+	private List<OrderItemDto> enrich(final List<OrderItemDto> orderItemDtos) {
+		
+		final Map<Integer, CompletableFuture<ProductDto>> productDtos = orderItemDtos.stream()
+				.map(OrderItemDto::getProductId)
+				.filter(Objects::nonNull)
+				.distinct()
+				.collect(Collectors.toMap(Function.identity(), productId -> this.fetchAsync(AppConstant.PRODUCT_CACHE, productId, 
+						AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL, ProductDto.class)));
+		final Map<Integer, CompletableFuture<OrderDto>> orderDtos = orderItemDtos.stream()
+				.map(OrderItemDto::getOrderId)
+				.filter(Objects::nonNull)
+				.distinct()
+				.collect(Collectors.toMap(Function.identity(), orderId -> this.fetchAsync(AppConstant.ORDER_CACHE, orderId, 
+						AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL, OrderDto.class)));
+		
+		orderItemDtos.forEach(o -> {
+			Optional.ofNullable(productDtos.get(o.getProductId()))
+					.map(CompletableFuture::join)
+					.ifPresent(o::setProductDto);
+			Optional.ofNullable(orderDtos.get(o.getOrderId()))
+					.map(CompletableFuture::join)
+					.ifPresent(o::setOrderDto);
+		});
+		return orderItemDtos;
+	}
+	
+	private <T> CompletableFuture<T> fetchAsync(final String cacheName, final Integer id, 
+			final String apiUrl, final Class<T> responseType) {
+		
+		final Cache cache = this.cacheManager.getCache(cacheName);
+		final T cached = cache.get(id, responseType);
+		if (cached != null) {
+			return CompletableFuture.completedFuture(cached);
+		}
+		
+		final String url = apiUrl + "/" + id;
+		return CompletableFuture.supplyAsync(() -> this.circuitBreakerFactory
+				.create(AppConstant.CIRCUIT_BREAKER_ID)
+				.run(() -> this.restTemplate.getForObject(url, responseType), throwable -> {
+					this.meterRegistry.counter("shipping.enrichment.degraded", "cache", cacheName).increment();
+					log.warn("*** OrderItemDto, service; remote lookup failed for {}, keeping the id-only reference: {} *", 
+							url, throwable.toString());
+					return null;
+				}), this.enrichmentExecutor)
+				.thenApply(dto -> {
+					if (dto != null) {
+						cache.put(id, dto);
+					}
+					return dto;
+				});
+	}
+	
 	
 	
 }
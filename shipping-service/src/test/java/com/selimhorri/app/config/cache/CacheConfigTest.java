@@ -0,0 +1,51 @@
+package com.selimhorri.app.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+class CacheConfigTest {
+
+    @Test
+    @DisplayName("caches created on demand get the default size bound and TTL")
+    void unlistedCacheIsBounded() {
+        RemoteCacheProperties properties = new RemoteCacheProperties();
+        properties.getDefaults().setMaxSize(10);
+        properties.getDefaults().setTtl(Duration.ofMinutes(1));
+
+        Cache<Object, Object> cache = nativeCache(new CacheConfig().cacheManagerBean(properties), "unlisted");
+
+        assertThat(cache.policy().eviction()).hasValueSatisfying(eviction -> assertThat(eviction.getMaximum()).isEqualTo(10));
+        assertThat(cache.policy().expireAfterWrite())
+            .hasValueSatisfying(expiry -> assertThat(expiry.getExpiresAfter(TimeUnit.MINUTES)).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("caches listed under app.cache.remote keep their own size bound and TTL")
+    void listedCacheUsesItsSpec() {
+        RemoteCacheProperties.Spec spec = new RemoteCacheProperties.Spec();
+        spec.setMaxSize(50);
+        spec.setTtl(Duration.ofMinutes(30));
+        RemoteCacheProperties properties = new RemoteCacheProperties();
+        properties.setRemote(Map.of("products", spec));
+
+        Cache<Object, Object> cache = nativeCache(new CacheConfig().cacheManagerBean(properties), "products");
+
+        assertThat(cache.policy().eviction()).hasValueSatisfying(eviction -> assertThat(eviction.getMaximum()).isEqualTo(50));
+        assertThat(cache.policy().expireAfterWrite())
+            .hasValueSatisfying(expiry -> assertThat(expiry.getExpiresAfter(TimeUnit.MINUTES)).isEqualTo(30));
+    }
+
+    private static Cache<Object, Object> nativeCache(final CacheManager cacheManager, final String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+    }
+}
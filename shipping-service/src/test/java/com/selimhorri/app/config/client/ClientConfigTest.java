@@ -0,0 +1,60 @@
+package com.selimhorri.app.config.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+class ClientConfigTest {
+
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = "ok".getBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("idle pooled connections are evicted by the client's background evictor")
+    void evictsIdleConnections() throws Exception {
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.setIdleEviction(Duration.ofMillis(100));
+        ClientConfig clientConfig = new ClientConfig();
+        PoolingHttpClientConnectionManager connectionManager = clientConfig.httpClientConnectionManagerBean(properties);
+
+        try (CloseableHttpClient httpClient = clientConfig.httpClientBean(connectionManager, properties)) {
+            EntityUtils.consume(httpClient.execute(new HttpGet("http://localhost:" + server.getAddress().getPort() + "/"))
+                .getEntity());
+            assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (connectionManager.getTotalStats().getAvailable() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(connectionManager.getTotalStats().getAvailable()).isZero();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.selimhorri.app.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.selimhorri.app.support.QueryPlanInspector;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:shipping_query_plan_db;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.selimhorri.app.support.QueryPlanInspector",
+        "eureka.client.enabled=false",
+        "eureka.client.register-with-eureka=false",
+        "eureka.client.fetch-registry=false",
+        "spring.zipkin.enabled=false",
+        "spring.cloud.config.enabled=false",
+        "SPRING_CONFIG_IMPORT=optional:file:./"
+    })
+@ActiveProfiles("dev")
+class OrderItemRepositoryQueryPlanIT {
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        QueryPlanInspector.reset();
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("deleteByOrderId locates order items through idx_order_items_order_id")
+    void deleteByOrderIdAvoidsFullScan() throws SQLException {
+        orderItemRepository.deleteByOrderId(1);
+
+        assertThat(QueryPlanInspector.assertNoFullScans(dataSource)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("findByOrderId pages order items through idx_order_items_order_id")
+    void findByOrderIdAvoidsFullScan() throws SQLException {
+        orderItemRepository.findByOrderId(1, PageRequest.of(0, 1, Sort.by("productId")));
+
+        QueryPlanInspector.assertNoFullScans(dataSource);
+    }
+}
@@ -0,0 +1,92 @@
+package com.selimhorri.app.resource;
+
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OrderItem;
+import com.selimhorri.app.exception.ApiExceptionHandler;
+import com.selimhorri.app.repository.OrderItemRepository;
+import com.selimhorri.app.service.impl.OrderItemServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class OrderItemResourceTest {
+
+    private static final String ITEM = "{\"productId\":1,\"orderId\":1,\"orderedQuantity\":1}";
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @InjectMocks
+    private OrderItemServiceImpl orderItemService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new OrderItemResource(orderItemService, new ObjectMapper()))
+            .setControllerAdvice(new ApiExceptionHandler())
+            .build();
+    }
+
+    @Test
+    @DisplayName("POST /batch above the item limit is answered with 400")
+    void postBatchOverLimitIsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/shippings/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(itemsOverLimit()))
+            .andExpect(status().isBadRequest());
+
+        verify(orderItemRepository, never()).saveAllAndFlush(anyIterable());
+    }
+
+    @Test
+    @DisplayName("POST /batch repeating a key is answered with 400")
+    void postBatchWithRepeatedKeyIsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/shippings/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + ITEM + "," + ITEM + "]"))
+            .andExpect(status().isBadRequest());
+
+        verify(orderItemRepository, never()).saveAllAndFlush(anyIterable());
+    }
+
+    @Test
+    @DisplayName("POST /batch with an already stored key is answered with 400")
+    void postBatchWithExistingKeyIsBadRequest() throws Exception {
+        when(orderItemRepository.findAllById(anyIterable())).thenReturn(List.of(OrderItem.builder().productId(1).orderId(1).orderedQuantity(3).build()));
+
+        mockMvc.perform(post("/api/shippings/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + ITEM + "]"))
+            .andExpect(status().isBadRequest());
+
+        verify(orderItemRepository, never()).saveAllAndFlush(anyIterable());
+    }
+
+    private String itemsOverLimit() {
+        return IntStream.rangeClosed(1, AppConstant.BATCH_MAX_ITEMS + 1)
+            .mapToObj(id -> "{\"productId\":" + id + ",\"orderId\":1,\"orderedQuantity\":1}")
+            .collect(Collectors.joining(",", "[", "]"));
+    }
+}
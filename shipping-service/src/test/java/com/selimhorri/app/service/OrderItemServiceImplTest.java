@@ -3,18 +3,30 @@ package com.selimhorri.app.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreaker;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
 import org.springframework.web.client.RestTemplate;
 
 import com.selimhorri.app.constant.AppConstant;
@@ -27,6 +39,9 @@ import com.selimhorri.app.exception.wrapper.OrderItemNotFoundException;
 import com.selimhorri.app.repository.OrderItemRepository;
 import com.selimhorri.app.service.impl.OrderItemServiceImpl;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class OrderItemServiceImplTest {
 
@@ -36,12 +51,28 @@ class OrderItemServiceImplTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager();
+
+    @Mock
+    private CircuitBreakerFactory<?, ?> circuitBreakerFactory;
+
+    @Mock
+    private CircuitBreaker circuitBreaker;
+
+    @Mock
+    private ExecutorService enrichmentExecutor;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private OrderItemServiceImpl orderItemService;
 
     @Test
     @DisplayName("findAll enriches each order item with product and order")
     void findAllEnrichesRelationships() {
+        runRemoteCallsInline();
         OrderItem orderItem = sampleOrderItem();
         when(orderItemRepository.findAll()).thenReturn(List.of(orderItem));
         when(restTemplate.getForObject(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/" + 1, ProductDto.class))
@@ -56,6 +87,48 @@ class OrderItemServiceImplTest {
         assertThat(result.get(0).getOrderDto().getOrderDesc()).isEqualTo("Order");
     }
 
+    @Test
+    @DisplayName("findAll fetches each distinct product and order only once")
+    void findAllFetchesDistinctIdsOnce() {
+        runRemoteCallsInline();
+        when(orderItemRepository.findAll()).thenReturn(List.of(
+            OrderItem.builder().productId(1).orderId(10).orderedQuantity(1).build(),
+            OrderItem.builder().productId(1).orderId(11).orderedQuantity(2).build(),
+            OrderItem.builder().productId(2).orderId(10).orderedQuantity(3).build()));
+        when(restTemplate.getForObject(anyString(), any()))
+            .thenAnswer(invocation -> invocation.getArgument(1) == ProductDto.class
+                ? ProductDto.builder().productTitle("Product").build()
+                : OrderDto.builder().orderDesc("Order").build());
+
+        List<OrderItemDto> result = orderItemService.findAll();
+
+        assertThat(result).hasSize(3);
+        assertThat(result).allMatch(o -> "Product".equals(o.getProductDto().getProductTitle()));
+        verify(restTemplate, times(4)).getForObject(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("findAll keeps the id-only reference when a remote lookup fails")
+    @SuppressWarnings("unchecked")
+    void findAllFallsBackWhenRemoteCallFails() {
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(enrichmentExecutor).execute(any(Runnable.class));
+        doAnswer(invocation -> circuitBreaker).when(circuitBreakerFactory).create(anyString());
+        when(circuitBreaker.run(any(), any()))
+            .thenAnswer(invocation -> ((Function<Throwable, Object>) invocation.getArgument(1))
+                .apply(new IllegalStateException("timeout")));
+        when(orderItemRepository.findAll()).thenReturn(List.of(sampleOrderItem()));
+
+        List<OrderItemDto> result = orderItemService.findAll();
+
+        assertThat(result.get(0).getProductDto().getProductId()).isEqualTo(1);
+        assertThat(result.get(0).getOrderDto().getOrderId()).isEqualTo(10);
+        assertThat(meterRegistry.counter("shipping.enrichment.degraded", "cache", AppConstant.PRODUCT_CACHE).count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("shipping.enrichment.degraded", "cache", AppConstant.ORDER_CACHE).count()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("findById throws when repository returns empty")
     void findByIdThrowsWhenMissing() {
@@ -77,6 +150,32 @@ class OrderItemServiceImplTest {
         verify(orderItemRepository).deleteById(id);
     }
 
+    @Test
+    @DisplayName("saveAll persists every order item as new in one repository call")
+    @SuppressWarnings("unchecked")
+    void saveAllPersistsNewEntities() {
+        when(orderItemRepository.saveAllAndFlush(any(List.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<OrderItemDto> result = orderItemService.saveAll(List.of(
+            OrderItemDto.builder().orderId(10).productId(1).orderedQuantity(2).build(),
+            OrderItemDto.builder().orderId(10).productId(2).orderedQuantity(1).build()));
+
+        assertThat(result).extracting(OrderItemDto::getProductId).containsExactly(1, 2);
+        ArgumentCaptor<List<OrderItem>> saved = ArgumentCaptor.forClass(List.class);
+        verify(orderItemRepository).saveAllAndFlush(saved.capture());
+        assertThat(saved.getValue()).allMatch(OrderItem::isNew);
+    }
+
+    private void runRemoteCallsInline() {
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(enrichmentExecutor).execute(any(Runnable.class));
+        doAnswer(invocation -> circuitBreaker).when(circuitBreakerFactory).create(anyString());
+        when(circuitBreaker.run(any(), any()))
+            .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+    }
+
     private OrderItem sampleOrderItem() {
         return OrderItem.builder()
             .productId(1)
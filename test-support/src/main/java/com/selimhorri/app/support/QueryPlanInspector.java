@@ -0,0 +1,121 @@
+package com.selimhorri.app.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records the SQL Hibernate issues on the current thread and fails when the
+ * database plans any of it as a full table scan (H2 or MySQL).
+ * Register with {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class QueryPlanInspector implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+    private static final Pattern H2_TABLE_SCAN = Pattern.compile("/\\* ([\\w.]+)\\.tableScan \\*/");
+    private static final Pattern LEADING_COMMENT = Pattern.compile("^\\s*/\\*.*?\\*/\\s*", Pattern.DOTALL);
+
+    @Override
+    public String inspect(final String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    public static void reset() {
+        STATEMENTS.get().clear();
+    }
+
+    public static List<String> assertNoFullScans(final DataSource dataSource) throws SQLException {
+        final List<String> statements = new ArrayList<>();
+        for (final String sql : STATEMENTS.get()) {
+            final String statement = LEADING_COMMENT.matcher(sql).replaceFirst("");
+            final String verb = statement.split("\\s+", 2)[0].toLowerCase(Locale.ROOT);
+            if (List.of("select", "update", "delete").contains(verb)) {
+                statements.add(statement);
+            }
+        }
+        assertThat(statements).as("recorded statements").isNotEmpty();
+        try (Connection connection = dataSource.getConnection()) {
+            final boolean mysql = connection.getMetaData().getDatabaseProductName()
+                .toLowerCase(Locale.ROOT).contains("mysql");
+            for (final String statement : statements) {
+                assertThat(explain(connection, statement, mysql))
+                    .as("tables fully scanned by: %s", statement)
+                    .isEmpty();
+            }
+        }
+        return statements;
+    }
+
+    private static List<String> explain(final Connection connection, final String sql, final boolean mysql) throws SQLException {
+        final List<String> fullScans = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            final int parameterCount = (int) sql.chars().filter(c -> c == '?').count();
+            for (int i = 1; i <= parameterCount; i++) {
+                bindSampleValue(statement, i);
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                while (plan.next()) {
+                    if (mysql) {
+                        if ("ALL".equalsIgnoreCase(plan.getString("type"))) {
+                            fullScans.add(plan.getString("table"));
+                        }
+                    }
+                    else {
+                        final Matcher matcher = H2_TABLE_SCAN.matcher(plan.getString(1));
+                        while (matcher.find()) {
+                            fullScans.add(matcher.group(1));
+                        }
+                    }
+                }
+            }
+        }
+        return fullScans;
+    }
+
+    private static void bindSampleValue(final PreparedStatement statement, final int index) throws SQLException {
+        int type;
+        try {
+            type = statement.getParameterMetaData().getParameterType(index);
+        }
+        catch (final SQLException e) {
+            type = Types.VARCHAR;
+        }
+        switch (type) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                statement.setInt(index, 0);
+                break;
+            case Types.BIT:
+            case Types.BOOLEAN:
+                statement.setBoolean(index, false);
+                break;
+            case Types.DATE:
+            case Types.TIMESTAMP:
+                statement.setTimestamp(index, Timestamp.valueOf(LocalDateTime.now()));
+                break;
+            default:
+                statement.setString(index, "0");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.hibernate-cache")
+@Data
+public class HibernateCacheProperties {
+	
+	private boolean enabled;
+	private Map<String, Region> regions = new HashMap<>();
+	
+	@Data
+	public static class Region {
+		
+		private long heapEntries = 1000;
+		private long offHeapMb;
+		private Duration ttl;
+		
+	}
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
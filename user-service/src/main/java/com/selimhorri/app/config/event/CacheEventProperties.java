@@ -0,0 +1,45 @@
+package com.selimhorri.app.config.event;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.cache-events")
+@Data
+public class CacheEventProperties {
+	
+	private String transport = "http";
+	private int batchSize = 100;
+	private Duration retention = Duration.ofDays(1);
+	private Duration timeout = Duration.ofSeconds(2);
+	private Duration claimLease = Duration.ofSeconds(30);
+	private Duration backoffInitial = Duration.ofSeconds(1);
+	private Duration backoffMax = Duration.ofMinutes(5);
+	private int maxPending = 10_000;
+	private List<Subscriber> subscribers = new ArrayList<>();
+	
+	@Data
+	public static class Subscriber {
+		
+		private String serviceId;
+		private String contextPath;
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
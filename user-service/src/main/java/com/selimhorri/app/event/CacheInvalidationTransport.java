@@ -0,0 +1,11 @@
+package com.selimhorri.app.event;
+
+import java.util.List;
+
+import com.selimhorri.app.dto.CacheInvalidationEvent;
+
+public interface CacheInvalidationTransport {
+	
+	void publish(final List<CacheInvalidationEvent> events);
+	
+}
@@ -0,0 +1,68 @@
+package com.selimhorri.app.event;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.domain.OutboxEvent;
+import com.selimhorri.app.dto.CacheInvalidationEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxPoller {
+	
+	private final OutboxEventClaimer outboxEventClaimer;
+	private final CacheInvalidationTransport cacheInvalidationTransport;
+	
+	@Scheduled(fixedDelayString = "${app.cache-events.poll-interval:1000}")
+	public void drain() {
+		final List<OutboxEvent> claimed = this.outboxEventClaimer.claim();
+		if (claimed.isEmpty()) {
+			return;
+		}
+		
+		try {
+			this.cacheInvalidationTransport.publish(claimed.stream()
+					.map(outboxEvent -> CacheInvalidationEvent.builder()
+							.cacheName(outboxEvent.getCacheName())
+							.key(outboxEvent.getEntityId())
+							.build())
+					.distinct()
+					.collect(Collectors.toUnmodifiableList()));
+		}
+		catch (RuntimeException e) {
+			log.warn("*** Void, poller; publishing {} outbox events failed, retrying once the claim expires: {} *", 
+					claimed.size(), e.getMessage());
+			return;
+		}
+		
+		this.outboxEventClaimer.markPublished(claimed.stream()
+				.map(OutboxEvent::getOutboxEventId)
+				.collect(Collectors.toUnmodifiableList()));
+		log.info("*** Void, poller; published {} outbox events *", claimed.size());
+	}
+	
+	@Scheduled(cron = "${app.cache-events.purge-cron:0 0 * * * *}")
+	public void purge() {
+		log.info("*** Void, poller; purged {} published outbox events *", this.outboxEventClaimer.purge());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
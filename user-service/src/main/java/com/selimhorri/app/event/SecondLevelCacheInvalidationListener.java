@@ -0,0 +1,42 @@
+package com.selimhorri.app.event;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Credential;
+import com.selimhorri.app.domain.User;
+import com.selimhorri.app.dto.CacheInvalidationEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evicts this instance's second-level cache when any user-service replica changes a user or its credential. 
+ * Events are keyed by user id, so the small credentials region is cleared as a whole.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SecondLevelCacheInvalidationListener {
+	
+	private final EntityManagerFactory entityManagerFactory;
+	
+	@EventListener
+	public void onCacheInvalidation(final CacheInvalidationEvent event) {
+		if (!AppConstant.USER_CACHE.equals(event.getCacheName())) {
+			return;
+		}
+		log.info("*** Void, listener; evict second-level {} entry {} *", event.getCacheName(), event.getKey());
+		final Cache cache = this.entityManagerFactory.getCache();
+		cache.evict(User.class, event.getKey());
+		cache.evict(Credential.class);
+		cache.unwrap(org.hibernate.Cache.class).evictDefaultQueryRegion();
+	}
+	
+	
+	
+}
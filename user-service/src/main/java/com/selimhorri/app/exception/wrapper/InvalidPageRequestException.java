@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class InvalidPageRequestException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public InvalidPageRequestException() {
+		super();
+	}
+	
+	public InvalidPageRequestException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public InvalidPageRequestException(String message) {
+		super(message);
+	}
+	
+	public InvalidPageRequestException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -2,12 +2,19 @@ package com.selimhorri.app.repository;
 
 import java.util.Optional;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.selimhorri.app.domain.Credential;
 
 public interface CredentialRepository extends JpaRepository<Credential, Integer> {
 	
+	@QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
 	Optional<Credential> findByUsername(final String username);
+	Slice<Credential> findByCredentialIdGreaterThan(final Integer credentialId, final Pageable pageable);
 	
 }
@@ -2,12 +2,22 @@ package com.selimhorri.app.repository;
 
 import java.util.Optional;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.User;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
 	
-	Optional<User> findByCredentialUsername(final String username);
+	@QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+	@Query("SELECT u FROM User u JOIN u.credential c WHERE c.username = :username")
+	Optional<User> findByCredentialUsername(@Param("username") final String username);
+	Slice<User> findByUserIdGreaterThan(final Integer userId, final Pageable pageable);
 	
 }
@@ -2,11 +2,17 @@ package com.selimhorri.app.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
 import com.selimhorri.app.dto.AddressDto;
 
 public interface AddressService {
 	
 	List<AddressDto> findAll();
+	Page<AddressDto> findAll(final Pageable pageable);
+	Slice<AddressDto> findAllAfter(final Integer addressId, final Pageable pageable);
 	AddressDto findById(final Integer addressId);
 	AddressDto save(final AddressDto addressDto);
 	AddressDto update(final AddressDto addressDto);
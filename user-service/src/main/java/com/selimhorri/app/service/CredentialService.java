@@ -2,11 +2,17 @@ package com.selimhorri.app.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
 import com.selimhorri.app.dto.CredentialDto;
 
 public interface CredentialService {
 	
 	List<CredentialDto> findAll();
+	Page<CredentialDto> findAll(final Pageable pageable);
+	Slice<CredentialDto> findAllAfter(final Integer credentialId, final Pageable pageable);
 	CredentialDto findById(final Integer credentialId);
 	CredentialDto save(final CredentialDto credentialDto);
 	CredentialDto update(final CredentialDto credentialDto);
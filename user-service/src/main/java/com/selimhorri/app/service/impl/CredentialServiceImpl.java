@@ -1,17 +1,27 @@
 package com.selimhorri.app.service.impl;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Credential;
+import com.selimhorri.app.domain.OutboxEvent;
 import com.selimhorri.app.dto.CredentialDto;
 import com.selimhorri.app.exception.wrapper.CredentialNotFoundException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.helper.CredentialMappingHelper;
 import com.selimhorri.app.repository.CredentialRepository;
+import com.selimhorri.app.repository.OutboxEventRepository;
 import com.selimhorri.app.service.CredentialService;
 
 import lombok.RequiredArgsConstructor;
@@ -24,6 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 public class CredentialServiceImpl implements CredentialService {
 	
 	private final CredentialRepository credentialRepository;
+	private final OutboxEventRepository outboxEventRepository;
 	
 	@Override
 	public List<CredentialDto> findAll() {
@@ -35,6 +46,21 @@ public class CredentialServiceImpl implements CredentialService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public Page<CredentialDto> findAll(final Pageable pageable) {
+		log.info("*** CredentialDto Page, service; fetch page of credentials *");
+		return this.credentialRepository.findAll(pageable)
+				.map(CredentialMappingHelper::map);
+	}
+	
+	@Override
+	public Slice<CredentialDto> findAllAfter(final Integer credentialId, final Pageable pageable) {
+		log.info("*** CredentialDto Slice, service; fetch credentials after cursor *");
+		return this.credentialRepository.findByCredentialIdGreaterThan(credentialId, 
+				PageRequest.of(0, pageable.getPageSize(), Sort.by("credentialId")))
+				.map(CredentialMappingHelper::map);
+	}
+	
 	@Override
 	public CredentialDto findById(final Integer credentialId) {
 		log.info("*** CredentialDto, service; fetch credential by ids *");
@@ -46,25 +72,33 @@ public class CredentialServiceImpl implements CredentialService {
 	@Override
 	public CredentialDto save(final CredentialDto credentialDto) {
 		log.info("*** CredentialDto, service; save credential *");
-		return CredentialMappingHelper.map(this.credentialRepository.save(CredentialMappingHelper.map(credentialDto)));
+		final Credential saved = this.credentialRepository.save(CredentialMappingHelper.map(credentialDto));
+		this.recordInvalidation(saved);
+		return CredentialMappingHelper.map(saved);
 	}
 	
 	@Override
 	public CredentialDto update(final CredentialDto credentialDto) {
 		log.info("*** CredentialDto, service; update credential *");
-		return CredentialMappingHelper.map(this.credentialRepository.save(CredentialMappingHelper.map(credentialDto)));
+		final Credential updated = this.credentialRepository.save(CredentialMappingHelper.map(credentialDto));
+		this.recordInvalidation(updated);
+		return CredentialMappingHelper.map(updated);
 	}
 	
 	@Override
 	public CredentialDto update(final Integer credentialId, final CredentialDto credentialDto) {
 		log.info("*** CredentialDto, service; update credential with credentialId *");
-		return CredentialMappingHelper.map(this.credentialRepository.save(
-				CredentialMappingHelper.map(this.findById(credentialId))));
+		final Credential updated = this.credentialRepository.save(
+				CredentialMappingHelper.map(this.findById(credentialId)));
+		this.recordInvalidation(updated);
+		return CredentialMappingHelper.map(updated);
 	}
 	
 	@Override
 	public void deleteById(final Integer credentialId) {
 		log.info("*** Void, service; delete credential by id *");
+		this.credentialRepository.findById(credentialId)
+				.ifPresent(this::recordInvalidation);
 		this.credentialRepository.deleteById(credentialId);
 	}
 	
@@ -74,6 +108,22 @@ public class CredentialServiceImpl implements CredentialService {
 				.orElseThrow(() -> new UserObjectNotFoundException(String.format("#### Credential with username: %s not found! ####", username))));
 	}
 	
+	/**
+	 * Credentials are cached per instance and embedded in the user views of other services, 
+	 * so a credential change invalidates its user everywhere. Saves are recorded too: replicas may have 
+	 * query-cached an empty username lookup from before the signup.
+	 */
+	private void recordInvalidation(final Credential credential) {
+		if (credential.getUser() == null) {
+			return;
+		}
+		this.outboxEventRepository.save(OutboxEvent.builder()
+				.cacheName(AppConstant.USER_CACHE)
+				.entityId(credential.getUser().getUserId())
+				.createdAt(Instant.now())
+				.build());
+	}
+	
 	
 	
 }
@@ -1,15 +1,28 @@
 package com.selimhorri.app.service.impl;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OutboxEvent;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.exception.wrapper.BatchLimitExceededException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.helper.UserMappingHelper;
+import com.selimhorri.app.repository.OutboxEventRepository;
 import com.selimhorri.app.repository.UserRepository;
 import com.selimhorri.app.service.UserService;
 
@@ -23,6 +36,7 @@ import lombok.extern.slf4j.Slf4j;
 public class UserServiceImpl implements UserService {
 	
 	private final UserRepository userRepository;
+	private final OutboxEventRepository outboxEventRepository;
 	
 	@Override
 	public List<UserDto> findAll() {
@@ -34,6 +48,21 @@ public class UserServiceImpl implements UserService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public Page<UserDto> findAll(final Pageable pageable) {
+		log.info("*** UserDto Page, service; fetch page of users *");
+		return this.userRepository.findAll(pageable)
+				.map(UserMappingHelper::map);
+	}
+	
+	@Override
+	public Slice<UserDto> findAllAfter(final Integer userId, final Pageable pageable) {
+		log.info("*** UserDto Slice, service; fetch users after cursor *");
+		return this.userRepository.findByUserIdGreaterThan(userId, 
+				PageRequest.of(0, pageable.getPageSize(), Sort.by("userId")))
+				.map(UserMappingHelper::map);
+	}
+	
 	@Override
 	public UserDto findById(final Integer userId) {
 		log.info("*** UserDto, service; fetch user by id *");
@@ -42,29 +71,53 @@ public class UserServiceImpl implements UserService {
 				.orElseThrow(() -> new UserObjectNotFoundException(String.format("User with id: %d not found", userId)));
 	}
 	
+	@Override
+	public List<UserDto> findAllByIds(final Collection<Integer> userIds) {
+		log.info("*** UserDto List, service; fetch users by ids *");
+		final Set<Integer> distinctIds = userIds.stream()
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet());
+		if (distinctIds.size() > AppConstant.BATCH_MAX_IDS) {
+			throw new BatchLimitExceededException(String
+					.format("Batch lookup accepts at most %d ids", AppConstant.BATCH_MAX_IDS));
+		}
+		return this.userRepository.findAllById(distinctIds)
+				.stream()
+					.map(UserMappingHelper::map)
+					.distinct()
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public UserDto save(final UserDto userDto) {
 		log.info("*** UserDto, service; save user *");
-		return UserMappingHelper.map(this.userRepository.save(UserMappingHelper.map(userDto)));
+		final UserDto saved = UserMappingHelper.map(this.userRepository.save(UserMappingHelper.map(userDto)));
+		this.recordInvalidation(saved.getUserId());
+		return saved;
 	}
 	
 	@Override
 	public UserDto update(final UserDto userDto) {
 		log.info("*** UserDto, service; update user *");
-		return UserMappingHelper.map(this.userRepository.save(UserMappingHelper.map(userDto)));
+		final UserDto updated = UserMappingHelper.map(this.userRepository.save(UserMappingHelper.map(userDto)));
+		this.recordInvalidation(updated.getUserId());
+		return updated;
 	}
 	
 	@Override
 	public UserDto update(final Integer userId, final UserDto userDto) {
 		log.info("*** UserDto, service; update user with userId *");
-		return UserMappingHelper.map(this.userRepository.save(
+		final UserDto updated = UserMappingHelper.map(this.userRepository.save(
 				UserMappingHelper.map(this.findById(userId))));
+		this.recordInvalidation(userId);
+		return updated;
 	}
 	
 	@Override
 	public void deleteById(final Integer userId) {
 		log.info("*** Void, service; delete user by id *");
 		this.userRepository.deleteById(userId);
+		this.recordInvalidation(userId);
 	}
 	
 	@Override
@@ -74,6 +127,14 @@ public class UserServiceImpl implements UserService {
 				.orElseThrow(() -> new UserObjectNotFoundException(String.format("User with username: %s not found", username))));
 	}
 	
+	private void recordInvalidation(final Integer userId) {
+		this.outboxEventRepository.save(OutboxEvent.builder()
+				.cacheName(AppConstant.USER_CACHE)
+				.entityId(userId)
+				.createdAt(Instant.now())
+				.build());
+	}
+	
 	
 	
 }
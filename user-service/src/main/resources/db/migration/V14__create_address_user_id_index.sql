@@ -0,0 +1 @@
+CREATE INDEX idx_address_user_id ON address (user_id);
@@ -0,0 +1 @@
+CREATE INDEX idx_credentials_username ON credentials (username);
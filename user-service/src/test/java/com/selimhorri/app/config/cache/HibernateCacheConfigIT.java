@@ -0,0 +1,76 @@
+package com.selimhorri.app.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.cache.CacheManager;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.selimhorri.app.domain.User;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user_cache_db;DB_CLOSE_DELAY=-1",
+        "app.hibernate-cache.enabled=true",
+        "eureka.client.enabled=false",
+        "eureka.client.register-with-eureka=false",
+        "eureka.client.fetch-registry=false",
+        "spring.zipkin.enabled=false",
+        "spring.cloud.config.enabled=false",
+        "SPRING_CONFIG_IMPORT=optional:file:./"
+    })
+@ActiveProfiles("dev")
+class HibernateCacheConfigIT {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager hibernateCacheManagerBean;
+
+    @Autowired
+    private HibernateCacheProperties hibernateCacheProperties;
+
+    @Test
+    @DisplayName("a second lookup of the same user is served from the users region")
+    void repeatedLookupHitsRegion() {
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        findUser(1);
+        findUser(1);
+
+        assertThat(statistics.getDomainDataRegionStatistics("users").getHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("another context in the same JVM gets its own cache manager and leaves this one open")
+    void contextsDoNotShareCacheManager() {
+        try (CacheManager other = new HibernateCacheConfig().hibernateCacheManagerBean(hibernateCacheProperties,
+                new GenericApplicationContext())) {
+            assertThat(other).isNotSameAs(hibernateCacheManagerBean);
+            assertThat(other.getCache("users")).isNotNull();
+        }
+
+        assertThat(hibernateCacheManagerBean.isClosed()).isFalse();
+        assertThat(hibernateCacheManagerBean.getCache("users")).isNotNull();
+    }
+
+    private void findUser(final Integer id) {
+        final EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            assertThat(entityManager.find(User.class, id)).isNotNull();
+        }
+        finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.selimhorri.app.repository;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.selimhorri.app.support.QueryPlanInspector;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user_query_plan_db;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.selimhorri.app.support.QueryPlanInspector",
+        "app.hibernate-cache.enabled=false",
+        "eureka.client.enabled=false",
+        "eureka.client.register-with-eureka=false",
+        "eureka.client.fetch-registry=false",
+        "spring.zipkin.enabled=false",
+        "spring.cloud.config.enabled=false",
+        "SPRING_CONFIG_IMPORT=optional:file:./"
+    })
+@ActiveProfiles("dev")
+class CredentialRepositoryQueryPlanIT {
+
+    @Autowired
+    private CredentialRepository credentialRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        QueryPlanInspector.reset();
+    }
+
+    @Test
+    @DisplayName("findByUsername resolves through idx_credentials_username")
+    void findByUsernameAvoidsFullScan() throws SQLException {
+        credentialRepository.findByUsername("admin");
+
+        QueryPlanInspector.assertNoFullScans(dataSource);
+    }
+
+    @Test
+    @DisplayName("findByCredentialUsername joins from credentials instead of scanning users")
+    void findByCredentialUsernameAvoidsFullScan() throws SQLException {
+        userRepository.findByCredentialUsername("admin");
+
+        QueryPlanInspector.assertNoFullScans(dataSource);
+    }
+}
@@ -0,0 +1,119 @@
+package com.selimhorri.app.resource;
+
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Credential;
+import com.selimhorri.app.domain.RoleBasedAuthority;
+import com.selimhorri.app.domain.User;
+import com.selimhorri.app.exception.ApiExceptionHandler;
+import com.selimhorri.app.repository.OutboxEventRepository;
+import com.selimhorri.app.repository.UserRepository;
+import com.selimhorri.app.service.impl.UserServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class UserResourceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @InjectMocks
+    private UserServiceImpl userService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new UserResource(userService))
+            .setControllerAdvice(new ApiExceptionHandler())
+            .build();
+    }
+
+    @Test
+    @DisplayName("POST /batch ignores null and repeated ids instead of failing")
+    void postBatchIgnoresNullIds() throws Exception {
+        when(userRepository.findAllById(Set.of(1, 2))).thenReturn(List.of(sampleUser()));
+
+        mockMvc.perform(post("/api/users/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[1, null, 2, 1]"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.collection[0].userId").value(1));
+    }
+
+    @Test
+    @DisplayName("GET /batch ignores empty ids instead of failing")
+    void getBatchIgnoresEmptyIds() throws Exception {
+        when(userRepository.findAllById(Set.of(1, 2))).thenReturn(List.of(sampleUser()));
+
+        mockMvc.perform(get("/api/users/batch").param("ids", "1,,2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.collection[0].userId").value(1));
+    }
+
+    @Test
+    @DisplayName("POST /batch above the id limit is answered with 400")
+    void postBatchOverLimitIsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/users/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(idsOverLimit()))
+            .andExpect(status().isBadRequest());
+
+        verify(userRepository, never()).findAllById(anyIterable());
+    }
+
+    private String idsOverLimit() {
+        return IntStream.rangeClosed(1, AppConstant.BATCH_MAX_IDS + 1)
+            .mapToObj(Integer::toString)
+            .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private User sampleUser() {
+        User user = User.builder()
+            .userId(1)
+            .firstName("John")
+            .lastName("Doe")
+            .email("john@example.com")
+            .phone("123456789")
+            .build();
+
+        user.setCredential(Credential.builder()
+            .credentialId(10)
+            .username("john.doe")
+            .password("hashed")
+            .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+            .isEnabled(true)
+            .isAccountNonExpired(true)
+            .isAccountNonLocked(true)
+            .isCredentialsNonExpired(true)
+            .user(user)
+            .build());
+        return user;
+    }
+}
@@ -0,0 +1,67 @@
+package com.selimhorri.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Credential;
+import com.selimhorri.app.domain.OutboxEvent;
+import com.selimhorri.app.domain.RoleBasedAuthority;
+import com.selimhorri.app.domain.User;
+import com.selimhorri.app.helper.CredentialMappingHelper;
+import com.selimhorri.app.repository.CredentialRepository;
+import com.selimhorri.app.repository.OutboxEventRepository;
+import com.selimhorri.app.service.impl.CredentialServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class CredentialServiceImplTest {
+
+    @Mock
+    private CredentialRepository credentialRepository;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @InjectMocks
+    private CredentialServiceImpl credentialService;
+
+    @Test
+    @DisplayName("save records an outbox event for the credential's user")
+    void saveRecordsInvalidation() {
+        when(credentialRepository.save(any(Credential.class))).thenReturn(sampleCredential());
+
+        credentialService.save(CredentialMappingHelper.map(sampleCredential()));
+
+        ArgumentCaptor<OutboxEvent> outbox = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(outbox.capture());
+        assertThat(outbox.getValue().getCacheName()).isEqualTo(AppConstant.USER_CACHE);
+        assertThat(outbox.getValue().getEntityId()).isEqualTo(1);
+    }
+
+    private Credential sampleCredential() {
+        return Credential.builder()
+            .credentialId(10)
+            .username("john.doe")
+            .password("hashed")
+            .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+            .isEnabled(true)
+            .isAccountNonExpired(true)
+            .isAccountNonLocked(true)
+            .isCredentialsNonExpired(true)
+            .user(User.builder()
+                .userId(1)
+                .firstName("John")
+                .build())
+            .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.selimhorri.app.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -10,15 +11,20 @@ import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Credential;
+import com.selimhorri.app.domain.OutboxEvent;
 import com.selimhorri.app.domain.RoleBasedAuthority;
 import com.selimhorri.app.domain.User;
 import com.selimhorri.app.dto.UserDto;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
+import com.selimhorri.app.helper.UserMappingHelper;
+import com.selimhorri.app.repository.OutboxEventRepository;
 import com.selimhorri.app.repository.UserRepository;
 import com.selimhorri.app.service.impl.UserServiceImpl;
 
@@ -28,6 +34,9 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -54,6 +63,19 @@ class UserServiceImplTest {
             .hasMessageContaining("99");
     }
 
+    @Test
+    @DisplayName("save records an outbox event so replicas drop cached username lookups")
+    void saveRecordsInvalidation() {
+        when(userRepository.save(any(User.class))).thenReturn(sampleUser());
+
+        userService.save(UserMappingHelper.map(sampleUser()));
+
+        ArgumentCaptor<OutboxEvent> outbox = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(outbox.capture());
+        assertThat(outbox.getValue().getCacheName()).isEqualTo(AppConstant.USER_CACHE);
+        assertThat(outbox.getValue().getEntityId()).isEqualTo(1);
+    }
+
     private User sampleUser() {
         User user = User.builder()
             .userId(1)